@@ -40,6 +40,8 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
     //Jackson Datatype: JSR310
     implementation("com.fasterxml.jackson.datatype:jackson-datatype-jsr310")
+    //Jackson Dataformat: Smile
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
     //Querydsl
     implementation("com.querydsl:querydsl-jpa:5.0.0:jakarta")
     //JJWT :: API
@@ -48,6 +50,8 @@ dependencies {
     implementation("org.redisson:redisson-spring-boot-starter:3.45.0")
     //Jedis
     implementation("redis.clients:jedis")
+    //Caffeine
+    implementation("com.github.ben-manes.caffeine:caffeine")
 
     compileOnly("org.projectlombok:lombok")
     developmentOnly("org.springframework.boot:spring-boot-devtools")
@@ -0,0 +1,78 @@
+package com.app.backend.domain.attachment.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 물리 파일 비동기 삭제
+ * <p>
+ * 단일 스레드와 고정 크기 대기열을 사용하며, 대기열이 가득 차면 요청한 스레드에서 직접 삭제한다(backpressure).
+ * 삭제 요청이 쌓여도 메모리 사용량은 대기열 크기로 제한된다.
+ */
+@Slf4j
+@Component
+public class FileDeletePipeline {
+
+    private static final int QUEUE_CAPACITY = 16;
+
+    private final FileService        fileService;
+    private final ThreadPoolExecutor executor;
+    private final MeterRegistry      meterRegistry;
+
+    public FileDeletePipeline(final FileService fileService, final MeterRegistry meterRegistry) {
+        this.fileService = fileService;
+        this.meterRegistry = meterRegistry;
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                                               new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                                               runnable -> {
+                                                   Thread thread = new Thread(runnable, "file-delete");
+                                                   thread.setDaemon(true);
+                                                   return thread;
+                                               },
+                                               new ThreadPoolExecutor.CallerRunsPolicy());
+
+        meterRegistry.gauge("file.delete.queue", executor, e -> e.getQueue().size());
+    }
+
+    /**
+     * 파일 삭제 예약
+     *
+     * @param filePaths - 삭제할 파일 전체 경로
+     */
+    public void submit(final List<String> filePaths) {
+        if (filePaths.isEmpty())
+            return;
+
+        executor.execute(() -> {
+            try {
+                // deleteFiles 는 @Async 로 별도 실행기에 넘어가므로 대기열 제한을 받도록 이 스레드에서 직접 삭제
+                filePaths.forEach(fileService::deleteFile);
+                count("success", filePaths.size());
+            } catch (Exception e) {
+                log.warn("File delete failed, files: {}", filePaths.size(), e);
+                count("failure", filePaths.size());
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private void count(final String result, final int files) {
+        Counter.builder("file.delete")
+               .tag("result", result)
+               .register(meterRegistry)
+               .increment(files);
+    }
+
+}
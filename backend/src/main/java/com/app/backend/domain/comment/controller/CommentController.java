@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -22,7 +23,10 @@ import com.app.backend.domain.comment.service.CommentService;
 import com.app.backend.domain.member.entity.MemberDetails;
 import com.app.backend.global.annotation.CustomPageJsonSerializer;
 import com.app.backend.global.dto.response.ApiResponse;
+import com.app.backend.global.dto.response.CursorPage;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -105,6 +109,25 @@ public class CommentController {
 		);
 	}
 
+	//게시물에 대한 댓글 조회 커서 기반 페이징 (무한 스크롤)
+	@GetMapping("/{id}/cursor")
+	public ApiResponse<CursorPage<CommentResponse.CommentList>> getCommentsByCursor(
+		@PathVariable(name = "id") Long postId,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "10") @Positive @Max(100) int size,
+		@AuthenticationPrincipal MemberDetails memberDetails
+	) {
+		CursorPage<CommentResponse.CommentList> response =
+			commentService.getCommentsByCursor(postId, memberDetails.getId(), cursor, size);
+
+		return ApiResponse.of(
+			true,
+			HttpStatus.OK,
+			"댓글이 조회되었습니다.",
+			response
+		);
+	}
+
 	//대댓글 작성
 	@PostMapping("/{id}/reply")
 	@ResponseStatus(HttpStatus.CREATED)
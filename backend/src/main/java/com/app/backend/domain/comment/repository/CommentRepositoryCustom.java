@@ -1,11 +1,16 @@
 package com.app.backend.domain.comment.repository;
 
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import com.app.backend.domain.comment.dto.response.CommentResponse;
 import com.app.backend.domain.post.entity.Post;
+import com.app.backend.global.util.PageCursor;
 
 public interface CommentRepositoryCustom {
 	Page<CommentResponse.CommentList> findCommentsWithLikeCount(Post post, Long memberId, Pageable pageable);
+
+	List<CommentResponse.CommentList> findCommentsWithLikeCount(Post post, Long memberId, PageCursor cursor, int limit);
 }
\ No newline at end of file
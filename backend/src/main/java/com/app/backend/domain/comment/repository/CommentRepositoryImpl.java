@@ -6,7 +6,6 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
@@ -14,7 +13,11 @@ import com.app.backend.domain.comment.dto.response.CommentResponse;
 import com.app.backend.domain.comment.entity.QComment;
 import com.app.backend.domain.comment.entity.QCommentLike;
 import com.app.backend.domain.post.entity.Post;
+import com.app.backend.global.util.PageCounter;
+import com.app.backend.global.util.PageCursor;
+import com.querydsl.core.Tuple;
 import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
@@ -24,13 +27,48 @@ import lombok.RequiredArgsConstructor;
 public class CommentRepositoryImpl implements CommentRepositoryCustom {
 
 	private final JPAQueryFactory queryFactory;
+	private final PageCounter pageCounter;
 
 	@Override
 	public Page<CommentResponse.CommentList> findCommentsWithLikeCount(Post post, Long memberId, Pageable pageable) {
 		QComment comment = QComment.comment;
+
+		List<CommentResponse.CommentList> results = selectCommentsWithLikeCount(post, memberId, null)
+			.offset(pageable.getOffset())
+			.limit(pageable.getPageSize())
+			.orderBy(comment.createdAt.desc())
+			.fetch()
+			.stream()
+			.map(tuple -> toCommentList(tuple, comment))
+			.collect(Collectors.toList());
+
+		return pageCounter.getPage(results, pageable, queryFactory
+			.select(comment.count())
+			.from(comment)
+			.where(comment.post.eq(post)
+				.and(comment.disabled.eq(false))
+				.and(comment.parent.isNull())));
+	}
+
+	@Override
+	public List<CommentResponse.CommentList> findCommentsWithLikeCount(Post post, Long memberId, PageCursor cursor, int limit) {
+		QComment comment = QComment.comment;
+
+		return selectCommentsWithLikeCount(post, memberId, cursor)
+			.limit(limit)
+			.orderBy(comment.createdAt.desc(), comment.id.desc())
+			.fetch()
+			.stream()
+			.map(tuple -> toCommentList(tuple, comment))
+			.collect(Collectors.toList());
+	}
+
+	// 최상위 댓글과 좋아요 수, 회원의 좋아요 여부 조회, 커서가 있으면 (작성 시각, ID)가 커서보다 작은 댓글만 조회
+	private JPAQuery<Tuple> selectCommentsWithLikeCount(Post post, Long memberId, PageCursor cursor) {
+		QComment comment = QComment.comment;
 		QCommentLike commentLike = QCommentLike.commentLike;
 
-		List<CommentResponse.CommentList> results = queryFactory
+		return queryFactory
 			.select(comment, commentLike.count(),
 				JPAExpressions.selectOne()
 					.from(commentLike)
@@ -45,32 +83,18 @@ public class CommentRepositoryImpl implements CommentRepositoryCustom {
 				.and(commentLike.disabled.eq(false)))
 			.where(comment.post.eq(post)
 				.and(comment.disabled.eq(false))
-				.and(comment.parent.isNull()))
-			.groupBy(comment)
-			.offset(pageable.getOffset())
-			.limit(pageable.getPageSize())
-			.orderBy(comment.createdAt.desc())
-			.fetch()
-			.stream()
-			.map(tuple -> CommentResponse.CommentList.from(
-				Objects.requireNonNull(tuple.get(comment)),
-				Optional.ofNullable(tuple.get(1, Number.class))
-					.map(Number::longValue)
-					.orElse(0L),
-				Boolean.TRUE.equals(tuple.get(2, Boolean.class))))
-			.collect(Collectors.toList());
-
-		Long total = Optional.ofNullable(
-			queryFactory
-				.select(comment.count())
-				.from(comment)
-				.where(comment.post.eq(post)
-					.and(comment.disabled.eq(false))
-					.and(comment.parent.isNull()))
-				.fetchOne()
-		).orElse(0L);
+				.and(comment.parent.isNull()),
+				cursor == null ? null : comment.createdAt.lt(cursor.sortKey())
+					.or(comment.createdAt.eq(cursor.sortKey()).and(comment.id.lt(cursor.id()))))
+			.groupBy(comment);
+	}
 
-		return new PageImpl<>(results, pageable, total);
+	private CommentResponse.CommentList toCommentList(Tuple tuple, QComment comment) {
+		return CommentResponse.CommentList.from(
+			Objects.requireNonNull(tuple.get(comment)),
+			Optional.ofNullable(tuple.get(1, Number.class))
+				.map(Number::longValue)
+				.orElse(0L),
+			Boolean.TRUE.equals(tuple.get(2, Boolean.class)));
 	}
 }
-
@@ -1,6 +1,8 @@
 package com.app.backend.domain.comment.service;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -21,6 +23,11 @@ import com.app.backend.domain.post.entity.Post;
 import com.app.backend.domain.post.exception.PostErrorCode;
 import com.app.backend.domain.post.exception.PostException;
 import com.app.backend.domain.post.repository.post.PostRepository;
+import com.app.backend.global.annotation.CustomPageCount;
+import com.app.backend.global.dto.response.CursorPage;
+import com.app.backend.global.util.CacheTagIndex;
+import com.app.backend.global.util.PageCounter.CountStrategy;
+import com.app.backend.global.util.PageCursor;
 
 import lombok.RequiredArgsConstructor;
 
@@ -33,6 +40,7 @@ public class CommentService {
 	private final PostRepository postRepository;
 	private final MemberRepository memberRepository;
 	private final CommentLikeRepository commentLikeRepository;
+	private final CacheTagIndex cacheTagIndex;
 
 	//댓글 조회
 	private Comment getCommentValidate(Long id){
@@ -46,6 +54,11 @@ public class CommentService {
 			.orElseThrow(()-> new PostException(PostErrorCode.POST_NOT_FOUND));
 	}
 
+	//댓글 개수 캐시 태그
+	private String commentCountTag(Long postId) {
+		return "post:" + postId + ":comments";
+	}
+
 	//댓글 작성자만 수정과 삭제 가능
 	private void validateAuthor(Comment comment, Long memberId) {
 		if (!comment.getMember().getId().equals(memberId)) {
@@ -82,6 +95,8 @@ public class CommentService {
 
 		commentRepository.save(comment);
 
+		cacheTagIndex.evict(commentCountTag(postId));
+
 		return CommentResponse.CommentDto.from(comment);
 
 	}
@@ -95,6 +110,8 @@ public class CommentService {
 		validateAuthor(comment, memberId);
 
 		comment.delete();
+
+		cacheTagIndex.evict(commentCountTag(comment.getPost().getId()));
 	}
 
 	// 댓글 수정
@@ -114,12 +131,24 @@ public class CommentService {
 
 	}
 
-	// 댓글 조회 (좋아요 포함)
+	// 댓글 조회 (좋아요 포함), 전체 개수는 게시물별로 캐시하고 댓글 작성/삭제 시 삭제
+	@CustomPageCount(strategy = CountStrategy.CACHED, prefix = "comment", key = "#postId",
+		tags = "'post:' + #postId + ':comments'")
 	public Page<CommentResponse.CommentList> getComments(Long postId, Long memberId, Pageable pageable) {
 		Post post = getPostValidate(postId);
 		return commentRepository.findCommentsWithLikeCount(post, memberId, pageable);
 	}
 
+	// 댓글 커서 기반 조회 (최신순, 전체 개수 조회 없음)
+	public CursorPage<CommentResponse.CommentList> getCommentsByCursor(Long postId, Long memberId, String cursor, int size) {
+		Post post = getPostValidate(postId);
+		List<CommentResponse.CommentList> comments =
+			commentRepository.findCommentsWithLikeCount(post, memberId, PageCursor.decode(cursor), size + 1);
+
+		return CursorPage.of(comments, size,
+			comment -> new PageCursor(comment.getCreatedAt(), comment.getId()), Function.identity());
+	}
+
 
 	// 대댓글 작성
 	@Transactional
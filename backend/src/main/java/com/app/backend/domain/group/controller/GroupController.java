@@ -10,8 +10,10 @@ import com.app.backend.domain.group.service.GroupService;
 import com.app.backend.domain.member.entity.MemberDetails;
 import com.app.backend.global.annotation.CustomPageJsonSerializer;
 import com.app.backend.global.dto.response.ApiResponse;
+import com.app.backend.global.dto.response.CursorPage;
 import com.app.backend.global.error.exception.GlobalErrorCode;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -99,6 +101,29 @@ public class GroupController {
         return ApiResponse.of(true, HttpStatus.OK, GroupMessageConstant.READ_GROUPS_SUCCESS, responseList);
     }
 
+    @GetMapping("/cursor")
+    public ApiResponse<CursorPage<GroupResponse.ListInfo>> getGroupsByCursor(
+            @RequestParam(required = false) final String categoryName,
+            @RequestParam(required = false) final String recruitStatus,
+            @RequestParam(required = false) final String province,
+            @RequestParam(required = false) final String city,
+            @RequestParam(required = false) final String town,
+            @RequestParam(required = false) final String keyword,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) final int size
+    ) {
+        GroupRequest.Search requestDto = GroupRequest.Search.builder()
+                                                            .categoryName(categoryName)
+                                                            .recruitStatus(recruitStatus)
+                                                            .name(keyword)
+                                                            .province(province)
+                                                            .city(city)
+                                                            .town(town)
+                                                            .build();
+        CursorPage<GroupResponse.ListInfo> responseList = groupService.getGroupsBySearch(requestDto, cursor, size);
+        return ApiResponse.of(true, HttpStatus.OK, GroupMessageConstant.READ_GROUPS_SUCCESS, responseList);
+    }
+
     @PatchMapping("/{groupId}")
     public ApiResponse<Void> modifyGroup(@PathVariable @Min(1) final Long groupId,
                                          @RequestBody @Valid final GroupRequest.Update requestDto,
@@ -11,6 +11,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -30,7 +31,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "tbl_groups")
+@Table(name = "tbl_groups", indexes = @Index(name = "idx_groups_created", columnList = "created_at, group_id"))
 @Getter
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -82,6 +83,9 @@ public class Group extends BaseEntity {
     @Column
     private int likeCount = 0; // 좋아요 수
 
+    @Column(name = "fencing_token", nullable = false, updatable = false)
+    private long fencingToken = 0L;    //마지막으로 수정한 락 보유자의 펜싱 토큰(GroupRepository.updateFencingToken 으로만 갱신)
+
     @Builder
     private Group(@NotNull final Long id,
                   @NotNull final String name,
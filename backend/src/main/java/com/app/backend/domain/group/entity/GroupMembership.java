@@ -49,6 +49,9 @@ public class GroupMembership extends BaseEntity {
     @Column(nullable = false)
     private MembershipStatus status;    //모임 내 회원의 상태: PENDING, APPROVED, REJECTED, LEAVE
 
+    @Column(name = "fencing_token", nullable = false, updatable = false)
+    private long fencingToken = 0L;    //마지막으로 수정한 락 보유자의 펜싱 토큰(GroupMembershipRepository.updateFencingToken 으로만 갱신)
+
     @Builder
     public GroupMembership(@NotNull final Member member,
                            @NotNull final Group group,
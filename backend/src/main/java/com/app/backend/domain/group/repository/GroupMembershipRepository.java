@@ -4,6 +4,7 @@ import com.app.backend.domain.group.entity.GroupMembership;
 import com.app.backend.domain.group.entity.GroupMembershipId;
 import com.app.backend.domain.group.entity.GroupRole;
 import com.app.backend.domain.group.entity.MembershipStatus;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -27,6 +28,8 @@ public interface GroupMembershipRepository extends JpaRepository<GroupMembership
 
     List<GroupMembership> findAllByMemberIdAndDisabled(Long memberId, Boolean disabled);
 
+    List<GroupMembership> findAllByMemberIdAndGroupIdIn(Long memberId, Collection<Long> groupIds);
+
     List<GroupMembership> findAllByGroupRole(GroupRole groupRole);
 
     List<GroupMembership> findAllByGroupRoleAndDisabled(GroupRole groupRole, Boolean disabled);
@@ -61,4 +64,9 @@ public interface GroupMembershipRepository extends JpaRepository<GroupMembership
     @Query("UPDATE GroupMembership g SET g.disabled = :disabled WHERE g.groupId = :groupId")
     int updateDisabledForAllGroupMembership(@Param("groupId") Long groupId, @Param("disabled") Boolean disabled);
 
+    @Modifying
+    @Query("UPDATE GroupMembership g SET g.fencingToken = :token "
+           + "WHERE g.groupId = :groupId AND g.memberId = :memberId AND g.fencingToken <= :token")
+    int updateFencingToken(@Param("groupId") Long groupId, @Param("memberId") Long memberId, @Param("token") long token);
+
 }
@@ -6,7 +6,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -41,4 +43,8 @@ public interface GroupRepository extends JpaRepository<Group, Long>, GroupReposi
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT g FROM Group g WHERE g.id = :groupId")
     Optional<Group> findByIdWithLock(Long groupId);
+
+    @Modifying
+    @Query("UPDATE Group g SET g.fencingToken = :token WHERE g.id = :groupId AND g.fencingToken <= :token")
+    int updateFencingToken(@Param("groupId") Long groupId, @Param("token") long token);
 }
@@ -1,6 +1,7 @@
 package com.app.backend.domain.group.repository;
 
 import com.app.backend.domain.group.entity.Group;
+import com.app.backend.global.util.PageCursor;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -33,4 +34,9 @@ public interface GroupRepositoryCustom {
                                                                             String city, String town, Boolean disabled,
                                                                             Pageable pageable);
 
+    List<Group> findAllByCategoryAndRecruitStatusAndNameContainingAndRegion(String categoryName, String recruitStatus,
+                                                                            String name, String province,
+                                                                            String city, String town, Boolean disabled,
+                                                                            PageCursor cursor, int limit);
+
 }
@@ -3,6 +3,8 @@ package com.app.backend.domain.group.repository;
 import com.app.backend.domain.group.entity.Group;
 import com.app.backend.domain.group.entity.QGroup;
 import com.app.backend.domain.group.entity.RecruitStatus;
+import com.app.backend.global.util.PageCounter;
+import com.app.backend.global.util.PageCursor;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
@@ -15,7 +17,6 @@ import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
@@ -24,6 +25,7 @@ import org.springframework.util.StringUtils;
 public class GroupRepositoryImpl implements GroupRepositoryCustom {
 
     private final JPAQueryFactory jpaQueryFactory;
+    private final PageCounter     pageCounter;
 
     /**
      * 검색할 지역(시/도, 시/군/구, 읍/면/동)으로 모임 목록 조회
@@ -72,7 +74,7 @@ public class GroupRepositoryImpl implements GroupRepositoryCustom {
         JPAQuery<Long> count = jpaQueryFactory.select(group.count())
                                               .from(group)
                                               .where(getRegionCondition(province, city, town, group));
-        return PageableExecutionUtils.getPage(content, pageable, count::fetchOne);
+        return pageCounter.getPage(content, pageable, count);
     }
 
     /**
@@ -130,7 +132,7 @@ public class GroupRepositoryImpl implements GroupRepositoryCustom {
                                               .from(group)
                                               .where(group.name.contains(name)
                                                                .and(getRegionCondition(province, city, town, group)));
-        return PageableExecutionUtils.getPage(content, pageable, count::fetchOne);
+        return pageCounter.getPage(content, pageable, count);
     }
 
     /**
@@ -208,7 +210,7 @@ public class GroupRepositoryImpl implements GroupRepositoryCustom {
                                                      : Expressions.TRUE,
                                                      getRegionCondition(province, city, town, group),
                                                      group.disabled.eq(disabled));
-        return PageableExecutionUtils.getPage(content, pageable, count::fetchOne);
+        return pageCounter.getPage(content, pageable, count);
     }
 
     /**
@@ -299,7 +301,54 @@ public class GroupRepositoryImpl implements GroupRepositoryCustom {
                                                      : Expressions.TRUE,
                                                      getRegionCondition(province, city, town, group),
                                                      group.disabled.eq(disabled));
-        return PageableExecutionUtils.getPage(content, pageable, count::fetchOne);
+        return pageCounter.getPage(content, pageable, count);
+    }
+
+    /**
+     * 카테고리명, 모집 상태, 모임 이름, 검색할 지역(시/도, 시/군/구, 읍/면/동)으로 모임 커서 기반 목록 조회(최신순)
+     *
+     * @param categoryName  - 카테고리명
+     * @param recruitStatus - 모집 상태
+     * @param name          - 모임 이름
+     * @param province      - 시/도
+     * @param city          - 시/군/구
+     * @param town          - 읍/면/동
+     * @param disabled      - 활성화 여부(Soft Delete 상태)
+     * @param cursor        - 이전 페이지 마지막 모임의 (생성 시각, ID), 첫 페이지는 null
+     * @param limit         - 조회할 최대 개수
+     * @return
+     */
+    @Override
+    public List<Group> findAllByCategoryAndRecruitStatusAndNameContainingAndRegion(final String categoryName,
+                                                                                   final String recruitStatus,
+                                                                                   final String name,
+                                                                                   final String province,
+                                                                                   final String city,
+                                                                                   final String town,
+                                                                                   @NotNull final Boolean disabled,
+                                                                                   final PageCursor cursor,
+                                                                                   final int limit) {
+        QGroup group = QGroup.group;
+        return jpaQueryFactory.selectFrom(group)
+                              .where(categoryName != null && !categoryName.isBlank()
+                                     ? group.category.name.eq(categoryName)
+                                     : Expressions.TRUE,
+                                     recruitStatus != null && !recruitStatus.isBlank()
+                                     ? group.recruitStatus.eq(RecruitStatus.valueOf(recruitStatus))
+                                     : Expressions.TRUE,
+                                     name != null && !name.isBlank()
+                                     ? group.name.contains(name)
+                                     : Expressions.TRUE,
+                                     getRegionCondition(province, city, town, group),
+                                     group.disabled.eq(disabled),
+                                     cursor != null
+                                     ? group.createdAt.lt(cursor.sortKey())
+                                                      .or(group.createdAt.eq(cursor.sortKey())
+                                                                         .and(group.id.lt(cursor.id())))
+                                     : Expressions.TRUE)
+                              .orderBy(group.createdAt.desc(), group.id.desc())
+                              .limit(limit)
+                              .fetch();
     }
 
     //============================== 내부 메서드 ==============================//
@@ -14,6 +14,9 @@ import com.app.backend.domain.group.repository.GroupRepository;
 import com.app.backend.domain.notification.dto.NotificationEvent;
 import com.app.backend.domain.notification.service.NotificationService;
 import com.app.backend.global.annotation.CustomLock;
+import com.app.backend.global.util.FencingToken;
+import com.app.backend.global.util.LockUtil.LockType;
+import com.app.backend.global.util.LockUtil.WaitStrategy;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
@@ -37,7 +40,10 @@ public class GroupMembershipService {
      * @param isAccept      - 가입 승인 여부
      * @return 모임 가입 승인 여부
      */
-    @CustomLock(key = "'group:' + #groupId + '-member:' + #memberId")
+    @CustomLock(prefix = "lock",
+                keys = {"'group:' + #groupId", "'group:' + #groupId + '-member:' + #memberId"},
+                type = LockType.WRITE,
+                waitStrategy = WaitStrategy.PUBSUB)
     @Transactional
     public boolean approveJoining(@NotNull @Min(1) final Long groupLeaderId,
                                   @NotNull @Min(1) final Long groupId,
@@ -46,6 +52,9 @@ public class GroupMembershipService {
         Group group = groupRepository.findByIdAndDisabled(groupId, false)
                                      .orElseThrow(() -> new GroupException(GroupErrorCode.GROUP_NOT_FOUND));
 
+        //락 임대 시간이 지난 뒤 늦게 도착한 요청이면 예외
+        FencingToken.verify(token -> groupRepository.updateFencingToken(groupId, token));
+
         //대상 모임이 모집 상태가 아닐 경우 예외(= 모집이 닫혀있는 경우 예외)
         if (group.getRecruitStatus() != RecruitStatus.RECRUITING)
             throw new GroupException(GroupErrorCode.GROUP_NOT_IN_RECRUITMENT_STATUS);
@@ -81,6 +90,8 @@ public class GroupMembershipService {
                                                                            )
                                                                    );
 
+        FencingToken.verify(token -> groupMembershipRepository.updateFencingToken(groupId, memberId, token));
+
         //멤버십 상태가 미승인(PENDING) 또는 거절(REJECTED) 상태가 아닐 경우 예외(= 모임에 가입된 상태(APPROVED) 또는 탈퇴(LEAVE)한 상태의 경우 예외 발생)
         if (groupMembership.getStatus() == MembershipStatus.APPROVED
             || groupMembership.getStatus() == MembershipStatus.LEAVE)
@@ -121,7 +132,7 @@ public class GroupMembershipService {
      * @param memberId      - 모임 내 권한 변경 대상 회원 ID
      * @return 권한 변경 성공 여부
      */
-    @CustomLock(key = "'group:' + #groupId + '-member:' + #memberId")
+    @CustomLock(prefix = "lock", key = "'group:' + #groupId + '-member:' + #memberId", type = LockType.WRITE)
     @Transactional
     public boolean modifyGroupRole(@NotNull @Min(1) final Long groupLeaderId,
                                    @NotNull @Min(1) final Long groupId,
@@ -148,6 +159,9 @@ public class GroupMembershipService {
                                                                            )
                                                                    );
 
+        //락 임대 시간이 지난 뒤 늦게 도착한 요청이면 예외
+        FencingToken.verify(token -> groupMembershipRepository.updateFencingToken(groupId, memberId, token));
+
         //멤버십이 가입 상태(APPROVED)가 아닐 경우 예외(= 미승인(PENDING) 또는 거절(REJECTED) 또는 탈퇴(LEAVE)일 경우 예외)
         if (groupMembership.getStatus() != MembershipStatus.APPROVED)
             throw new GroupMembershipException(
@@ -171,7 +185,7 @@ public class GroupMembershipService {
      * @param memberId - 회원 ID
      * @return 탈퇴 성공 여부
      */
-    @CustomLock(key = "'group:' + #groupId + '-member:' + #memberId")
+    @CustomLock(prefix = "lock", key = "'group:' + #groupId + '-member:' + #memberId", type = LockType.WRITE)
     @Transactional
     public boolean leaveGroup(@NotNull @Min(1) final Long groupId, @NotNull @Min(1) final Long memberId) {
         GroupMembership groupMembership = groupMembershipRepository.findByGroupIdAndMemberIdAndDisabled(groupId,
@@ -183,6 +197,9 @@ public class GroupMembershipService {
                                                                            )
                                                                    );
 
+        //락 임대 시간이 지난 뒤 늦게 도착한 요청이면 예외
+        FencingToken.verify(token -> groupMembershipRepository.updateFencingToken(groupId, memberId, token));
+
         //모임을 탈퇴하기 전 모임 내 관리자 권한을 갖는 회원의 숫자 조회
         int groupLeaderCount = groupMembershipRepository.countByGroupIdAndGroupRoleAndDisabled(groupId,
                                                                                                GroupRole.LEADER,
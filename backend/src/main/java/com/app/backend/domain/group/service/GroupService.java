@@ -24,6 +24,13 @@ import com.app.backend.domain.member.exception.MemberErrorCode;
 import com.app.backend.domain.member.exception.MemberException;
 import com.app.backend.domain.member.repository.MemberRepository;
 import com.app.backend.global.annotation.CustomLock;
+import com.app.backend.global.annotation.CustomPageCount;
+import com.app.backend.global.dto.response.CursorPage;
+import com.app.backend.global.util.FencingToken;
+import com.app.backend.global.util.LockUtil.LockType;
+import com.app.backend.global.util.LockUtil.WaitStrategy;
+import com.app.backend.global.util.PageCounter.CountStrategy;
+import com.app.backend.global.util.PageCursor;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.validation.constraints.Min;
@@ -288,8 +295,9 @@ public class GroupService {
      *
      * @param dto      - 모임 검색 요청 DTO
      * @param pageable - 페이징 객체
-     * @return 모임 응답 DTO 목록(Page)
+     * @return 모임 응답 DTO 목록(Page), 전체 개수는 최대 1,000 개까지만 계산
      */
+    @CustomPageCount(strategy = CountStrategy.APPROXIMATE, limit = 1000)
     public Page<GroupResponse.ListInfo> getGroupsBySearch(@NotNull final GroupRequest.Search dto,
                                                           @NotNull final Pageable pageable) {
         return groupRepository.findAllByCategoryAndRecruitStatusAndNameContainingAndRegion(dto.getCategoryName(),
@@ -303,6 +311,34 @@ public class GroupService {
                               .map(GroupResponse::toListInfo);
     }
 
+    /**
+     * 카테고리와 모임 이름, 상세 주소로 모임(Group) 커서 기반 다 건 조회(최신순), 전체 개수는 조회하지 않음
+     *
+     * @param dto    - 모임 검색 요청 DTO
+     * @param cursor - 이전 페이지의 nextCursor, 첫 페이지는 null
+     * @param size   - 페이지 크기
+     * @return 모임 응답 DTO 목록(CursorPage)
+     */
+    public CursorPage<GroupResponse.ListInfo> getGroupsBySearch(@NotNull final GroupRequest.Search dto,
+                                                                final String cursor,
+                                                                final int size) {
+        List<Group> groups = groupRepository.findAllByCategoryAndRecruitStatusAndNameContainingAndRegion(
+                dto.getCategoryName(),
+                dto.getRecruitStatus(),
+                dto.getName(),
+                dto.getProvince(),
+                dto.getCity(),
+                dto.getTown(),
+                false,
+                PageCursor.decode(cursor),
+                size + 1
+        );
+        return CursorPage.of(groups,
+                             size,
+                             group -> new PageCursor(group.getCreatedAt(), group.getId()),
+                             GroupResponse::toListInfo);
+    }
+
     /**
      * 모임(Group) 수정
      *
@@ -311,7 +347,7 @@ public class GroupService {
      * @param dto      - 모임(Group) 수정 요청 DTO
      * @return 모임 응답 DTO
      */
-    @CustomLock(key = "'group:' + #groupId")
+    @CustomLock(prefix = "lock", key = "'group:' + #groupId", type = LockType.WRITE, waitStrategy = WaitStrategy.PUBSUB)
     @Transactional
     public GroupResponse.Detail modifyGroup(@NotNull @Min(1) final Long groupId,
                                             @NotNull @Min(1) final Long memberId,
@@ -333,6 +369,9 @@ public class GroupService {
         Group group = groupRepository.findByIdAndDisabled(groupId, false)
                                      .orElseThrow(() -> new GroupException(GroupErrorCode.GROUP_NOT_FOUND));
 
+        //락 임대 시간이 지난 뒤 늦게 도착한 요청이면 예외
+        FencingToken.verify(token -> groupRepository.updateFencingToken(groupId, token));
+
         //수정할 카테고리 조회
         Category newCategory = categoryRepository.findByNameAndDisabled(dto.getCategoryName(), false)
                                                  .orElseThrow(() -> new CategoryException(
@@ -364,7 +403,7 @@ public class GroupService {
      * @param memberId - 회원 ID
      * @return 모임 비활성화(disabled) 여부
      */
-    @CustomLock(key = "'group:' + #groupId")
+    @CustomLock(prefix = "lock", key = "'group:' + #groupId", type = LockType.WRITE, waitStrategy = WaitStrategy.PUBSUB)
     @Transactional
     public boolean deleteGroup(@NotNull @Min(1) final Long groupId, @NotNull @Min(1) final Long memberId) {
         GroupMembership groupMembership = groupMembershipRepository.findByGroupIdAndMemberIdAndDisabled(groupId,
@@ -385,6 +424,9 @@ public class GroupService {
         Group group = groupRepository.findByIdAndDisabled(groupId, false)
                                      .orElseThrow(() -> new GroupException(GroupErrorCode.GROUP_NOT_FOUND));
 
+        //락 임대 시간이 지난 뒤 늦게 도착한 요청이면 예외
+        FencingToken.verify(token -> groupRepository.updateFencingToken(groupId, token));
+
         group.deactivate();
         groupMembershipRepository.updateDisabledForAllGroupMembership(groupId,
                                                                       true); //해당 모임 ID를 갖는 멤버십 일괄 삭제(Soft Delete)
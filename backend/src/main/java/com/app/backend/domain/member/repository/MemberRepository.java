@@ -1,6 +1,5 @@
 package com.app.backend.domain.member.repository;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,7 +16,5 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Optional<Member> findByOauthProviderId(String oauthProviderId);
 
-    int deleteByDisabledIsTrueAndModifiedAtLessThan(LocalDateTime modifiedAt);
-
     List<Member> findAllByOrderByIdDesc();
 }
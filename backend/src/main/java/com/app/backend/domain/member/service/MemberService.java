@@ -12,11 +12,16 @@ import com.app.backend.domain.member.exception.MemberErrorCode;
 import com.app.backend.domain.member.exception.MemberException;
 import com.app.backend.domain.member.jwt.JwtProvider;
 import com.app.backend.domain.member.repository.MemberRepository;
+import com.app.backend.global.annotation.CustomJob;
+import com.app.backend.global.util.JobPartition;
+import com.app.backend.global.util.PurgeEngine;
+import com.app.backend.global.util.PurgeEngine.PurgeTarget;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -32,8 +37,21 @@ public class MemberService {
     private final GroupMembershipRepository groupMembershipRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtProvider jwtProvider;
+    private final PurgeEngine purgeEngine;
     private final boolean disabled = false;
 
+    private static final PurgeTarget MEMBER_PURGE_TARGET = PurgeTarget.builder()
+            .name("member")
+            .table("tbl_members")
+            .idColumn("member_id")
+            .guard("NOT EXISTS (SELECT 1 FROM tbl_group_memberships t WHERE t.member_id = tbl_members.member_id)"
+                    + " AND NOT EXISTS (SELECT 1 FROM tbl_meeting_applications t WHERE t.member_id = tbl_members.member_id)"
+                    + " AND NOT EXISTS (SELECT 1 FROM tbl_comments t WHERE t.member_id = tbl_members.member_id)"
+                    + " AND NOT EXISTS (SELECT 1 FROM tbl_comment_likes t WHERE t.member_id = tbl_members.member_id)"
+                    + " AND NOT EXISTS (SELECT 1 FROM tbl_post_likes t WHERE t.member_id = tbl_members.member_id)"
+                    + " AND NOT EXISTS (SELECT 1 FROM tbl_group_likes t WHERE t.member_id = tbl_members.member_id)")
+            .build();
+
     @Transactional
     public MemberJoinResponseDto createMember(String username, String password, String nickname) {
         memberRepository.findByUsernameAndDisabled(username, disabled)
@@ -148,12 +166,18 @@ public class MemberService {
         memberRepository.save(member);
     }
 
-    @Transactional
+    /**
+     * 비활성화된 회원 삭제, 청크마다 별도 트랜잭션으로 처리
+     * <p>
+     * 다른 테이블에서 참조 중인 회원은 삭제하지 않고 건너뛴다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @CustomJob(name = "member-cleanup")
     @Scheduled(fixedRate = 60000 * 30) // 30분마다 실행
     public void cleanupDisabledMembers() {
         log.info("비활성화된 회원 정보 삭제 작업 시작");
         LocalDateTime cutoffDate = LocalDateTime.now().minusSeconds(30);
-        int deletedCount = memberRepository.deleteByDisabledIsTrueAndModifiedAtLessThan(cutoffDate);
+        long deletedCount = purgeEngine.purge(MEMBER_PURGE_TARGET, cutoffDate, JobPartition.current());
         log.info("삭제된 회원 수: {}", deletedCount);
     }
 
@@ -3,15 +3,21 @@ package com.app.backend.domain.post.controller;
 import com.app.backend.domain.member.entity.MemberDetails;
 import com.app.backend.domain.post.dto.req.PostReqDto;
 import com.app.backend.domain.post.dto.resp.PostRespDto;
+import com.app.backend.domain.post.dto.resp.PostViewRespDto;
 import com.app.backend.domain.post.entity.Post;
 import com.app.backend.domain.post.entity.PostStatus;
+import com.app.backend.domain.post.entity.ViewRollupUnit;
 import com.app.backend.domain.post.exception.PostException;
 import com.app.backend.domain.post.service.post.PostService;
+import com.app.backend.domain.post.service.postView.PostViewService;
 import com.app.backend.global.annotation.CustomPageJsonSerializer;
 import com.app.backend.global.dto.response.ApiResponse;
+import com.app.backend.global.dto.response.CursorPage;
 import com.app.backend.global.error.exception.GlobalErrorCode;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -32,6 +38,7 @@ import java.util.List;
 public class PostController {
 
     private final PostService postService;
+    private final PostViewService postViewService;
 
     @GetMapping("/{id}")
     public ApiResponse<?> getPost(
@@ -44,6 +51,16 @@ public class PostController {
         return ApiResponse.of(true, HttpStatus.OK, "게시글을 성공적으로 불러왔습니다", post);
     }
 
+    @GetMapping("/details")
+    public ApiResponse<List<PostRespDto.GetPostDto>> getPostDetails(
+            @RequestParam("ids") @Size(max = 50) final List<Long> postIds,
+            @AuthenticationPrincipal final MemberDetails memberDetails
+    ) {
+        List<PostRespDto.GetPostDto> posts = postService.getPostDetails(postIds, memberDetails.getId());
+
+        return ApiResponse.of(true, HttpStatus.OK, "게시글 목록을 성공적으로 불러왔습니다", posts);
+    }
+
     @GetMapping
     @CustomPageJsonSerializer
     public ApiResponse<?> getPosts(
@@ -58,6 +75,20 @@ public class PostController {
         return ApiResponse.of(true, HttpStatus.OK, "게시물 목록을 성공적으로 불러왔습니다", posts);
     }
 
+    @GetMapping("/cursor")
+    public ApiResponse<?> getPostsByCursor(
+            @RequestParam final Long groupId,
+            @RequestParam(defaultValue = "") final String search,
+            @RequestParam(defaultValue = "ALL") final PostStatus postStatus,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(defaultValue = "10") @Positive @Max(100) final int size
+    ) {
+
+        CursorPage<PostRespDto.GetPostListDto> posts = postService.getPostsByCursor(groupId, search, postStatus, cursor, size);
+
+        return ApiResponse.of(true, HttpStatus.OK, "게시물 목록을 성공적으로 불러왔습니다", posts);
+    }
+
     @GetMapping("/hot")
     public ApiResponse<?> getHotPosts(
             @RequestParam final Long groupId
@@ -67,6 +98,48 @@ public class PostController {
         return ApiResponse.of(true, HttpStatus.OK, "인기 게시물 목록을 성곡적으로 불러왔습니다", posts);
     }
 
+    @GetMapping("/{id}/viewers")
+    public ApiResponse<Long> getUniqueViewerCount(
+            @PathVariable("id") final Long postId,
+            @RequestParam(defaultValue = "7") @Positive final int days
+    ) {
+        long viewers = postService.getUniqueViewerCount(postId, days);
+
+        return ApiResponse.of(true, HttpStatus.OK, "게시물 순 방문자 수를 성공적으로 불러왔습니다", viewers);
+    }
+
+    @GetMapping("/{id}/views")
+    public ApiResponse<List<PostViewRespDto.ViewBucketDto>> getPostViews(
+            @PathVariable("id") final Long postId,
+            @RequestParam(defaultValue = "DAY") final ViewRollupUnit unit,
+            @RequestParam(defaultValue = "7") @Positive final int days
+    ) {
+        List<PostViewRespDto.ViewBucketDto> views = postViewService.getPostViews(postId, unit, days);
+
+        return ApiResponse.of(true, HttpStatus.OK, "게시물 기간별 조회수를 성공적으로 불러왔습니다", views);
+    }
+
+    @GetMapping("/trending")
+    public ApiResponse<List<PostViewRespDto.PostViewsDto>> getTrendingPosts(
+            @RequestParam final Long groupId,
+            @RequestParam(defaultValue = "7") @Positive final int days,
+            @RequestParam(defaultValue = "10") @Positive final int limit
+    ) {
+        List<PostViewRespDto.PostViewsDto> posts = postViewService.getTrendingPosts(groupId, days, limit);
+
+        return ApiResponse.of(true, HttpStatus.OK, "기간 내 인기 게시물 목록을 성공적으로 불러왔습니다", posts);
+    }
+
+    @GetMapping("/activity")
+    public ApiResponse<List<PostViewRespDto.GroupActivityDto>> getGroupActivity(
+            @RequestParam final Long groupId,
+            @RequestParam(defaultValue = "30") @Positive final int days
+    ) {
+        List<PostViewRespDto.GroupActivityDto> activity = postViewService.getGroupActivity(groupId, days);
+
+        return ApiResponse.of(true, HttpStatus.OK, "그룹 일별 조회 통계를 성공적으로 불러왔습니다", activity);
+    }
+
     @PostMapping
     public ApiResponse<?> savePost(
             @Valid @RequestPart("post") final PostReqDto.SavePostDto savePost,
@@ -9,6 +9,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public class PostRespDto {
@@ -37,6 +38,7 @@ public class PostRespDto {
         private Boolean liked;
         private final List<PostAttachmentRespDto.GetPostImageDto> images;
         private final List<PostAttachmentRespDto.GetPostDocumentDto> documents;
+        private final List<PostAttachmentRespDto.GetPostImageDto> videos;
     }
 
     public static GetPostDto toGetPost(final Post post,
@@ -44,14 +46,27 @@ public class PostRespDto {
                                        final List<PostAttachmentRespDto.GetPostImageDto> images,
                                        final List<PostAttachmentRespDto.GetPostDocumentDto> documents,
                                        final boolean isLiked)
+    {
+        return toGetPost(post, member, images, documents, List.of(), isLiked);
+    }
+
+    /**
+     * @param author - 작성자, 탈퇴 등으로 없으면 게시글에 저장된 작성자 정보 사용
+     */
+    public static GetPostDto toGetPost(final Post post,
+                                       final Member author,
+                                       final List<PostAttachmentRespDto.GetPostImageDto> images,
+                                       final List<PostAttachmentRespDto.GetPostDocumentDto> documents,
+                                       final List<PostAttachmentRespDto.GetPostImageDto> videos,
+                                       final boolean isLiked)
     {
         return GetPostDto.builder()
                 .postId(post.getId())
                 .title(post.getTitle())
                 .content(post.getContent())
                 .postStatus(post.getPostStatus())
-                .nickName(member.getNickname())
-                .memberId(member.getId())
+                .nickName(author != null ? author.getNickname() : post.getNickName())
+                .memberId(author != null ? author.getId() : post.getMemberId())
                 .groupId(post.getGroupId())
                 .createdAt(AppUtil.localDateTimeToString(post.getCreatedAt()))
                 .modifiedAt(AppUtil.localDateTimeToString(post.getModifiedAt()))
@@ -59,6 +74,7 @@ public class PostRespDto {
                 .liked(isLiked)
                 .images(images)
                 .documents(documents)
+                .videos(videos)
                 .build();
     }
 
@@ -75,6 +91,30 @@ public class PostRespDto {
         private final Long todayViewCount;
     }
 
+    /**
+     * 게시글 목록 조회용 컬럼 projection, 본문(content)과 연관 엔티티를 조회하지 않음
+     */
+    public record PostListRow(Long postId,
+                              String title,
+                              PostStatus postStatus,
+                              Long memberId,
+                              String nickName,
+                              LocalDateTime createdAt,
+                              Long todayViewCount) {
+    }
+
+    public static GetPostListDto toGetPostList(final PostListRow row) {
+        return GetPostListDto.builder()
+                .postId(row.postId())
+                .title(row.title())
+                .postStatus(row.postStatus())
+                .memberId(row.memberId())
+                .nickName(row.nickName())
+                .createdAt(AppUtil.localDateTimeToString(row.createdAt()))
+                .todayViewCount(row.todayViewCount())
+                .build();
+    }
+
     public static GetPostListDto toGetPostList(final Post post){
         return GetPostListDto.builder()
                 .postId(post.getId())
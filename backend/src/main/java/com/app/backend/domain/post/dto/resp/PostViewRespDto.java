@@ -0,0 +1,40 @@
+package com.app.backend.domain.post.dto.resp;
+
+import com.app.backend.global.util.AppUtil;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+public class PostViewRespDto {
+
+    @Getter
+    @AllArgsConstructor
+    public static class ViewBucketDto {
+        private final String bucketStart;
+        private final long viewCount;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class GroupActivityDto {
+        private final String bucketStart;
+        private final long viewCount;
+        private final long postCount;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class PostViewsDto {
+        private final Long postId;
+        private final long viewCount;
+    }
+
+    public static ViewBucketDto toViewBucket(final LocalDateTime bucketStart, final long viewCount) {
+        return new ViewBucketDto(AppUtil.localDateTimeToString(bucketStart), viewCount);
+    }
+
+    public static GroupActivityDto toGroupActivity(final LocalDateTime bucketStart, final long viewCount, final long postCount) {
+        return new GroupActivityDto(AppUtil.localDateTimeToString(bucketStart), viewCount, postCount);
+    }
+}
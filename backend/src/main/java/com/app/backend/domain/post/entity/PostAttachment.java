@@ -7,7 +7,9 @@ import lombok.*;
 
 @Entity
 @Getter
-@Table(name = "tbl_post_attachments")
+@Table(name = "tbl_post_attachments", indexes = {
+        @Index(name = "idx_post_attachments_post", columnList = "post_id")
+})
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PostAttachment extends Attachment {
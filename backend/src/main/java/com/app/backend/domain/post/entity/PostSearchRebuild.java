@@ -0,0 +1,31 @@
+package com.app.backend.domain.post.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 검색 색인 재구성 진행 상태(한 행)
+ * <p>
+ * 청크마다 마지막으로 색인한 게시글 ID 를 기록해 중단된 재구성을 이어서 진행하며, 완료되면 completedAt 을 기록한다.
+ */
+@Entity
+@Getter
+@Builder
+@Table(name = "tbl_post_search_rebuild")
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostSearchRebuild {
+
+    @Id
+    @Column(name = "rebuild_id")
+    private Long id;
+
+    @Column(name = "last_post_id", nullable = false)
+    private Long lastPostId;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+}
@@ -0,0 +1,39 @@
+package com.app.backend.domain.post.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 게시글 검색 역색인(토큰 → 게시글)
+ * <p>
+ * 게시글의 2-gram 토큰마다 한 행(token, post_id 유일)이며, weight 는 토큰이 나온 횟수에 제목 가중치를 곱해 더한 값이다.
+ */
+@Entity
+@Getter
+@Builder
+@Table(name = "tbl_post_search_tokens", indexes = {
+        @Index(name = "idx_post_search_tokens_token", columnList = "token, group_id, post_id"),
+        @Index(name = "idx_post_search_tokens_post", columnList = "post_id")
+}, uniqueConstraints = @UniqueConstraint(name = "uk_post_search_tokens_token_post", columnNames = {"token", "post_id"}))
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostSearchToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "token_id")
+    private Long id;
+
+    @Column(nullable = false, length = 16)
+    private String token;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "group_id", nullable = false)
+    private Long groupId;
+
+    @Column(nullable = false)
+    private Integer weight;
+
+}
@@ -0,0 +1,47 @@
+package com.app.backend.domain.post.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 조회수 시계열 집계(추가 전용)
+ * <p>
+ * HOUR : 조회수 동기화마다 동기화 시각이 속한 시간 구간으로 한 행씩 추가(같은 구간에 여러 행이 있을 수 있음) <br>
+ * DAY : 하루가 지나면 전날의 HOUR 행을 게시글별로 합산해 추가
+ */
+@Entity
+@Getter
+@Builder
+@Table(name = "tbl_post_view_rollups", indexes = {
+        @Index(name = "idx_post_view_rollups_post", columnList = "post_id, unit, bucket_start"),
+        @Index(name = "idx_post_view_rollups_group", columnList = "group_id, unit, bucket_start"),
+        @Index(name = "idx_post_view_rollups_unit", columnList = "unit, bucket_start")
+})
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostViewRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rollup_id")
+    private Long id;
+
+    @Column(nullable = false, length = 8)
+    @Enumerated(EnumType.STRING)
+    private ViewRollupUnit unit;
+
+    @Column(nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "group_id", nullable = false)
+    private Long groupId;
+
+    @Column(nullable = false)
+    private Long viewCount;
+
+}
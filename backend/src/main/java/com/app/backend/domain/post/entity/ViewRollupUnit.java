@@ -0,0 +1,5 @@
+package com.app.backend.domain.post.entity;
+
+public enum ViewRollupUnit {
+    HOUR, DAY;
+}
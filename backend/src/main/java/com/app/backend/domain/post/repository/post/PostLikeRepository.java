@@ -1,5 +1,7 @@
 package com.app.backend.domain.post.repository.post;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -18,5 +20,10 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
 	@Lock(LockModeType.PESSIMISTIC_WRITE)
 	Optional<PostLike> findByPostAndMember(Post post, Member member);
 
+	/**
+	 * 회원이 좋아요한(활성 상태) 게시글 ID, 여러 게시글의 좋아요 여부를 한 번에 확인
+	 */
+	@Query("SELECT pl.post.id FROM PostLike pl WHERE pl.member.id = :memberId AND pl.post.id IN :postIds AND pl.disabled = false")
+	List<Long> findLikedPostIds(@Param("memberId") Long memberId, @Param("postIds") Collection<Long> postIds);
 
 }
@@ -1,20 +1,23 @@
 package com.app.backend.domain.post.repository.post;
 
-import com.app.backend.domain.post.entity.Post;
+import com.app.backend.domain.post.dto.resp.PostRespDto.PostListRow;
 import com.app.backend.domain.post.entity.PostStatus;
+import com.app.backend.global.util.PageCursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
-import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface PostRepositoryCustom {
 
-    Page<Post> findAllBySearchStatus(Long groupId, String search, PostStatus postStatus, boolean disabled, Pageable pageable);
+    Page<PostListRow> findAllBySearchStatus(Long groupId, String search, PostStatus postStatus, boolean disabled, Pageable pageable);
 
-    Page<Post> findAllByUserAndSearchStatus(Long groupId, Long memberId, String search, PostStatus postStatus, boolean disabled, Pageable pageable);
+    Page<PostListRow> findAllByUserAndSearchStatus(Long groupId, Long memberId, String search, PostStatus postStatus, boolean disabled, Pageable pageable);
 
-    List<Post> findPostsByGroupIdOrderByTodayViewsCountDesc(Long groupId, int limit, boolean disabled);
+    List<PostListRow> findAllBySearchStatus(Long groupId, String search, PostStatus postStatus, boolean disabled, PageCursor cursor, int limit);
 
-    void deleteAllByModifiedAtAndDisabled(LocalDateTime lastModified, boolean disabled);
+    List<PostListRow> findPostsByGroupIdOrderByTodayViewsCountDesc(Long groupId, int limit, boolean disabled);
+
+    List<PostListRow> findPostsByIdIn(Collection<Long> postIds, boolean disabled);
 }
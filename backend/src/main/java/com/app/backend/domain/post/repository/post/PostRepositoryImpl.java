@@ -1,97 +1,79 @@
 package com.app.backend.domain.post.repository.post;
 
-import com.app.backend.domain.post.entity.Post;
+import com.app.backend.domain.post.dto.resp.PostRespDto.PostListRow;
 import com.app.backend.domain.post.entity.PostStatus;
 import com.app.backend.domain.post.entity.QPost;
+import com.app.backend.domain.post.entity.QPostSearchToken;
+import com.app.backend.domain.post.service.postSearch.PostSearchTokenizer;
 import com.app.backend.global.error.exception.DomainException;
 import com.app.backend.global.error.exception.GlobalErrorCode;
+import com.app.backend.global.util.PageCounter;
+import com.app.backend.global.util.PageCursor;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
 public class PostRepositoryImpl implements PostRepositoryCustom {
 
     private final JPAQueryFactory jpaQueryFactory;
+    private final PageCounter     pageCounter;
 
     @Override
-    public Page<Post> findAllBySearchStatus(final Long groupId, final String search, final PostStatus postStatus, final boolean disabled, final Pageable pageable) {
-
-        QPost post = QPost.post;
-
-        List<Post> posts = jpaQueryFactory.selectFrom(post)
-                .where(searchKeywordContains(post, search),
-                        checkPostStatus(post, postStatus),
-                        post.groupId.eq(groupId),
-                        post.disabled.eq(disabled))
-                .orderBy(getSortCondition(pageable, post))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+    public Page<PostListRow> findAllBySearchStatus(final Long groupId, final String search, final PostStatus postStatus, final boolean disabled, final Pageable pageable) {
+        return searchPosts(groupId, null, search, postStatus, disabled, pageable);
+    }
 
-        long total = Optional.ofNullable(
-                jpaQueryFactory.select(post.count())
-                        .from(post)
-                        .where(searchKeywordContains(post, search),
-                                checkPostStatus(post, postStatus),
-                                post.groupId.eq(groupId),
-                                post.disabled.eq(disabled))
-                        .fetchOne()
-        ).orElse(0L);
-
-        return new PageImpl<>(posts, pageable, total);
+    @Override
+    public Page<PostListRow> findAllByUserAndSearchStatus(final Long groupId, final Long memberId, final String search, final PostStatus postStatus, final boolean disabled, final Pageable pageable) {
+        return searchPosts(groupId, memberId, search, postStatus, disabled, pageable);
     }
 
     @Override
-    public Page<Post> findAllByUserAndSearchStatus(final Long groupId, final Long memberId, final String search, final PostStatus postStatus, final boolean disabled, final Pageable pageable) {
+    public List<PostListRow> findAllBySearchStatus(final Long groupId, final String search, final PostStatus postStatus, final boolean disabled, final PageCursor cursor, final int limit) {
         QPost post = QPost.post;
+        Set<String> tokens = (search == null || search.isBlank()) ? Set.of() : PostSearchTokenizer.queryTokens(search);
 
-        List<Post> posts = jpaQueryFactory.selectFrom(post)
-                .where(searchKeywordContains(post, search),
+        return jpaQueryFactory.select(listRow(post))
+                .from(post)
+                .where(searchKeywordContains(post, groupId, search, tokens),
                         checkPostStatus(post, postStatus),
                         post.groupId.eq(groupId),
-                        post.memberId.eq(memberId),
-                        post.disabled.eq(disabled))
-                .orderBy(getSortCondition(pageable, post))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                        post.disabled.eq(disabled),
+                        afterCursor(post, cursor))
+                .orderBy(post.createdAt.desc(), post.id.desc())
+                .limit(limit)
                 .fetch();
-
-        long total = Optional.ofNullable(
-                jpaQueryFactory.select(post.count())
-                        .from(post)
-                        .where(searchKeywordContains(post, search),
-                                checkPostStatus(post, postStatus),
-                                post.groupId.eq(groupId),
-                                post.memberId.eq(memberId),
-                                post.disabled.eq(disabled))
-                        .fetchOne()
-        ).orElse(0L);
-
-        return new PageImpl<>(posts, pageable, total);
     }
 
     @Override
-    public List<Post> findPostsByGroupIdOrderByTodayViewsCountDesc(final Long groupId, final int limit, final boolean disabled) {
+    public List<PostListRow> findPostsByGroupIdOrderByTodayViewsCountDesc(final Long groupId, final int limit, final boolean disabled) {
         QPost post = QPost.post;
 
-        return jpaQueryFactory.selectFrom(post)
+        return jpaQueryFactory.select(listRow(post))
+                .from(post)
                 .where(post.groupId.eq(groupId),
                         post.disabled.eq(disabled),
                         post.todayViewCount.gt(0L))
@@ -101,18 +83,134 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
     }
 
     @Override
-    public void deleteAllByModifiedAtAndDisabled(final LocalDateTime lastModified, final boolean disabled) {
+    public List<PostListRow> findPostsByIdIn(final Collection<Long> postIds, final boolean disabled) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        QPost post = QPost.post;
+
+        return jpaQueryFactory.select(listRow(post))
+                .from(post)
+                .where(post.id.in(postIds),
+                        post.disabled.eq(disabled))
+                .fetch();
+    }
+
+    /**
+     * 목록 응답에 필요한 컬럼만 조회, 엔티티를 만들지 않으므로 영속성 컨텍스트에 올라가지 않음
+     */
+    private ConstructorExpression<PostListRow> listRow(final QPost post) {
+        return Projections.constructor(PostListRow.class,
+                post.id,
+                post.title,
+                post.postStatus,
+                post.memberId,
+                post.nickName,
+                post.createdAt,
+                post.todayViewCount);
+    }
+
+    /**
+     * 게시글 목록 조회, 검색어는 역색인(tbl_post_search_tokens)으로 찾음
+     * <p>
+     * 검색어의 모든 2-gram 토큰을 포함한 게시글 중 제목이나 내용에 검색어의 각 단어가 실제로 들어 있는 게시글만 조회하며
+     * (토큰만 맞고 단어는 없는 경우 제외, 예: 테스 + 스트 ≠ 테스트), 정렬 조건이 없으면 토큰 가중치 합(제목 일치 우선) 순서로 정렬한다.
+     * 2-gram 을 만들 수 없는 한 글자 검색어는 제목 LIKE 검색으로 처리한다.
+     */
+    private Page<PostListRow> searchPosts(final Long groupId, final Long memberId, final String search, final PostStatus postStatus, final boolean disabled, final Pageable pageable) {
         QPost post = QPost.post;
-        jpaQueryFactory
-                .delete(post)
-                .where(post.disabled.eq(disabled),
-                        post.modifiedAt.loe(lastModified))
-                .execute();
+        Set<String> tokens = (search == null || search.isBlank()) ? Set.of() : PostSearchTokenizer.queryTokens(search);
+
+        BooleanExpression keyword = searchKeywordContains(post, groupId, search, tokens);
+        BooleanExpression[] filters = {
+                checkPostStatus(post, postStatus),
+                post.groupId.eq(groupId),
+                memberId == null ? null : post.memberId.eq(memberId),
+                post.disabled.eq(disabled)
+        };
+
+        List<PostListRow> posts = (!tokens.isEmpty() && pageable.getSort().isUnsorted())
+                ? findRankedPosts(post, groupId, search, tokens, filters, pageable)
+                : jpaQueryFactory.select(listRow(post))
+                        .from(post)
+                        .where(keyword)
+                        .where(filters)
+                        .orderBy(getSortCondition(pageable, post))
+                        .offset(pageable.getOffset())
+                        .limit(pageable.getPageSize())
+                        .fetch();
+
+        return pageCounter.getPage(posts, pageable, jpaQueryFactory.select(post.count())
+                .from(post)
+                .where(keyword)
+                .where(filters));
     }
 
+    private List<PostListRow> findRankedPosts(final QPost post, final Long groupId, final String search, final Set<String> tokens, final BooleanExpression[] filters, final Pageable pageable) {
+        QPostSearchToken searchToken = QPostSearchToken.postSearchToken;
+
+        List<Long> postIds = jpaQueryFactory.select(searchToken.postId)
+                .from(searchToken)
+                .join(post).on(post.id.eq(searchToken.postId))
+                .where(searchToken.token.in(tokens),
+                        searchToken.groupId.eq(groupId),
+                        containsWords(post, search))
+                .where(filters)
+                .groupBy(searchToken.postId)
+                .having(searchToken.token.count().eq((long) tokens.size()))
+                .orderBy(searchToken.weight.sum().desc(), searchToken.postId.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, PostListRow> posts = jpaQueryFactory.select(listRow(post))
+                .from(post)
+                .where(post.id.in(postIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(PostListRow::postId, Function.identity()));
+
+        return postIds.stream().map(posts::get).filter(Objects::nonNull).toList();
+    }
+
+    private BooleanExpression searchKeywordContains(final QPost post, final Long groupId, final String search, final Set<String> tokens) {
+        if (search == null || search.isBlank()) {
+            return null;
+        }
+        if (tokens.isEmpty()) {
+            return post.title.containsIgnoreCase(search.trim());
+        }
+
+        QPostSearchToken searchToken = QPostSearchToken.postSearchToken;
+        return post.id.in(JPAExpressions.select(searchToken.postId)
+                .from(searchToken)
+                .where(searchToken.token.in(tokens),
+                        searchToken.groupId.eq(groupId))
+                .groupBy(searchToken.postId)
+                .having(searchToken.token.count().eq((long) tokens.size())))
+                .and(containsWords(post, search));
+    }
+
+    /**
+     * 2-gram 후보 재확인, 검색어의 모든 단어가 제목 또는 내용에 포함
+     */
+    private BooleanExpression containsWords(final QPost post, final String search) {
+        BooleanExpression contains = null;
+        for (String word : PostSearchTokenizer.queryWords(search)) {
+            BooleanExpression matched = post.title.containsIgnoreCase(word).or(post.content.containsIgnoreCase(word));
+            contains = contains == null ? matched : contains.and(matched);
+        }
+        return contains;
+    }
 
-    private BooleanExpression searchKeywordContains(final QPost post, final String search) {
-        return (search == null || search.isEmpty()) ? null : post.title.containsIgnoreCase(search);
+    private BooleanExpression afterCursor(final QPost post, final PageCursor cursor) {
+        return cursor == null ? null : post.createdAt.lt(cursor.sortKey())
+                .or(post.createdAt.eq(cursor.sortKey()).and(post.id.lt(cursor.id())));
     }
 
     private BooleanExpression checkPostStatus(final QPost post, final PostStatus postStatus) {
@@ -0,0 +1,74 @@
+package com.app.backend.domain.post.repository.post;
+
+import com.app.backend.domain.post.entity.PostViewRollup;
+import com.app.backend.domain.post.entity.ViewRollupUnit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PostViewRollupRepository extends JpaRepository<PostViewRollup, Long> {
+
+    @Query("SELECT r.bucketStart AS bucketStart, SUM(r.viewCount) AS viewCount FROM PostViewRollup r " +
+            "WHERE r.postId = :postId AND r.unit = :unit AND r.bucketStart >= :from AND r.bucketStart < :to " +
+            "GROUP BY r.bucketStart ORDER BY r.bucketStart")
+    List<ViewBucket> findPostBuckets(@Param("postId") Long postId,
+                                     @Param("unit") ViewRollupUnit unit,
+                                     @Param("from") LocalDateTime from,
+                                     @Param("to") LocalDateTime to);
+
+    @Query("SELECT r.bucketStart AS bucketStart, SUM(r.viewCount) AS viewCount, COUNT(DISTINCT r.postId) AS postCount " +
+            "FROM PostViewRollup r " +
+            "WHERE r.groupId = :groupId AND r.unit = :unit AND r.bucketStart >= :from AND r.bucketStart < :to " +
+            "GROUP BY r.bucketStart ORDER BY r.bucketStart")
+    List<GroupBucket> findGroupBuckets(@Param("groupId") Long groupId,
+                                       @Param("unit") ViewRollupUnit unit,
+                                       @Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to);
+
+    @Query("SELECT SUM(r.viewCount) AS viewCount, COUNT(DISTINCT r.postId) AS postCount FROM PostViewRollup r " +
+            "WHERE r.groupId = :groupId AND r.unit = :unit AND r.bucketStart >= :from AND r.bucketStart < :to")
+    GroupTotal findGroupTotal(@Param("groupId") Long groupId,
+                              @Param("unit") ViewRollupUnit unit,
+                              @Param("from") LocalDateTime from,
+                              @Param("to") LocalDateTime to);
+
+    /**
+     * 기간 내 조회수 상위 게시글, 완료된 날짜는 DAY 행을, 오늘은 HOUR 행을 합산
+     */
+    @Query("SELECT r.postId AS postId, SUM(r.viewCount) AS viewCount FROM PostViewRollup r " +
+            "WHERE r.groupId = :groupId AND (" +
+            "(r.unit = com.app.backend.domain.post.entity.ViewRollupUnit.DAY AND r.bucketStart >= :from AND r.bucketStart < :today) OR " +
+            "(r.unit = com.app.backend.domain.post.entity.ViewRollupUnit.HOUR AND r.bucketStart >= :today)) " +
+            "GROUP BY r.postId ORDER BY SUM(r.viewCount) DESC")
+    List<PostViews> findTopPosts(@Param("groupId") Long groupId,
+                                 @Param("from") LocalDateTime from,
+                                 @Param("today") LocalDateTime today,
+                                 Pageable pageable);
+
+    interface ViewBucket {
+        LocalDateTime getBucketStart();
+
+        Long getViewCount();
+    }
+
+    interface GroupBucket extends ViewBucket {
+        Long getPostCount();
+    }
+
+    interface GroupTotal {
+        Long getViewCount();
+
+        Long getPostCount();
+    }
+
+    interface PostViews {
+        Long getPostId();
+
+        Long getViewCount();
+    }
+
+}
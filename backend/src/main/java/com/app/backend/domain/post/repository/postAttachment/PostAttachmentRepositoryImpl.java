@@ -1,12 +1,10 @@
 package com.app.backend.domain.post.repository.postAttachment;
 
-import com.app.backend.domain.post.entity.PostAttachment;
 import com.app.backend.domain.post.entity.QPostAttachment;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -15,16 +13,6 @@ public class PostAttachmentRepositoryImpl implements PostAttachmentRepositoryCus
 
     private final JPAQueryFactory jpaQueryFactory;
 
-    @Override
-    public List<PostAttachment> findAllByModifiedAtAndDisabled(final LocalDateTime lastModified, final boolean disabled) {
-        QPostAttachment postAttachment = QPostAttachment.postAttachment;
-        return jpaQueryFactory
-                .selectFrom(postAttachment)
-                .where(postAttachment.disabled.eq(disabled),
-                        postAttachment.modifiedAt.loe(lastModified))
-                .fetch();
-    }
-
     @Override
     public void deleteByIdList(final List<Long> idList) {
         QPostAttachment postAttachment = QPostAttachment.postAttachment;
@@ -47,12 +35,4 @@ public class PostAttachmentRepositoryImpl implements PostAttachmentRepositoryCus
                 .execute();
     }
 
-    @Override
-    public void deleteByFileIdList(final List<Long> fileIdList) {
-        QPostAttachment postAttachment = QPostAttachment.postAttachment;
-        jpaQueryFactory
-                .delete(postAttachment)
-                .where(postAttachment.postId.in(fileIdList))
-                .execute();
-    }
 }
@@ -0,0 +1,132 @@
+package com.app.backend.domain.post.service.post;
+
+import com.app.backend.domain.attachment.entity.FileType;
+import com.app.backend.domain.group.entity.GroupMembership;
+import com.app.backend.domain.group.entity.MembershipStatus;
+import com.app.backend.domain.group.repository.GroupMembershipRepository;
+import com.app.backend.domain.member.entity.Member;
+import com.app.backend.domain.member.repository.MemberRepository;
+import com.app.backend.domain.post.dto.resp.PostAttachmentRespDto;
+import com.app.backend.domain.post.dto.resp.PostRespDto;
+import com.app.backend.domain.post.entity.Post;
+import com.app.backend.domain.post.entity.PostAttachment;
+import com.app.backend.domain.post.entity.PostStatus;
+import com.app.backend.domain.post.repository.post.PostLikeRepository;
+import com.app.backend.domain.post.repository.postAttachment.PostAttachmentRepository;
+import com.app.backend.global.config.FileConfig;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 상세 응답 조립
+ * <p>
+ * 게시글 수와 관계없이 첨부파일(활성 상태 전체 1회), 작성자(1회), 조회 회원의 좋아요 여부(1회)를 한 번에 조회한 뒤 메모리에서 게시글별로 나눈다.
+ * 첨부파일은 FileType 별로 분류하며, 이미지와 동영상은 정적 리소스 경로를 붙여 반환한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostDetailAssembler {
+
+    private final FileConfig                fileConfig;
+    private final MemberRepository          memberRepository;
+    private final PostAttachmentRepository  postAttachmentRepository;
+    private final GroupMembershipRepository groupMembershipRepository;
+    private final PostLikeRepository        postLikeRepository;
+
+    /**
+     * 게시글 상세 응답 목록, 입력 순서 유지
+     *
+     * @param posts    - 조회할 게시글 목록
+     * @param viewerId - 조회하는 회원 ID, 좋아요 여부 확인용
+     */
+    public List<PostRespDto.GetPostDto> assemble(final List<Post> posts, final Long viewerId) {
+        if (posts.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> likedPostIds = Set.copyOf(postLikeRepository.findLikedPostIds(viewerId, posts.stream().map(Post::getId).toList()));
+        return assemble(posts, likedPostIds::contains);
+    }
+
+    /**
+     * 게시글 상세 응답 목록, 입력 순서 유지
+     *
+     * @param posts - 조회할 게시글 목록
+     * @param liked - 게시글 ID 별 좋아요 여부
+     */
+    public List<PostRespDto.GetPostDto> assemble(final List<Post> posts, final Predicate<Long> liked) {
+        if (posts.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Map<FileType, List<PostAttachment>>> attachments = postAttachmentRepository
+                .findByPostIdInAndDisabledOrderByCreatedAtDesc(posts.stream().map(Post::getId).toList(), false)
+                .stream()
+                .collect(Collectors.groupingBy(PostAttachment::getPostId,
+                        Collectors.groupingBy(PostAttachment::getFileType,
+                                () -> new EnumMap<>(FileType.class),
+                                Collectors.toList())));
+
+        Map<Long, Member> authors = memberRepository
+                .findAllById(posts.stream().map(Post::getMemberId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
+
+        return posts.stream()
+                .map(post -> toGetPost(post, authors.get(post.getMemberId()), attachments.getOrDefault(post.getId(), Map.of()),
+                        liked.test(post.getId())))
+                .toList();
+    }
+
+    /**
+     * 회원이 승인된 상태로 가입한 모임 ID, 비공개 게시글 접근 확인용
+     *
+     * @param memberId - 회원 ID
+     * @param groupIds - 확인할 모임 ID 목록
+     */
+    public Set<Long> findApprovedGroupIds(final Long memberId, final Collection<Long> groupIds) {
+        if (groupIds.isEmpty()) {
+            return Set.of();
+        }
+
+        return groupMembershipRepository.findAllByMemberIdAndGroupIdIn(memberId, groupIds).stream()
+                .filter(membership -> membership.getStatus() == MembershipStatus.APPROVED)
+                .map(GroupMembership::getGroupId)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * 비공개 게시글은 승인된 모임 회원만 조회 가능
+     */
+    public static boolean isReadable(final Post post, final Set<Long> approvedGroupIds) {
+        return post.getPostStatus() == PostStatus.PUBLIC || approvedGroupIds.contains(post.getGroupId());
+    }
+
+    private PostRespDto.GetPostDto toGetPost(final Post post,
+                                             final Member author,
+                                             final Map<FileType, List<PostAttachment>> files,
+                                             final boolean liked) {
+        List<PostAttachmentRespDto.GetPostImageDto> images = files.getOrDefault(FileType.IMAGE, List.of()).stream()
+                .map(file -> PostAttachmentRespDto.GetPostImage(file, fileConfig.getIMAGE_DIR()))
+                .toList();
+
+        List<PostAttachmentRespDto.GetPostDocumentDto> documents = files.getOrDefault(FileType.DOCUMENT, List.of()).stream()
+                .map(PostAttachmentRespDto::getPostDocument)
+                .toList();
+
+        List<PostAttachmentRespDto.GetPostImageDto> videos = files.getOrDefault(FileType.VIDEO, List.of()).stream()
+                .map(file -> PostAttachmentRespDto.GetPostImage(file, fileConfig.getIMAGE_DIR()))
+                .toList();
+
+        return PostRespDto.toGetPost(post, author, images, documents, videos, liked);
+    }
+
+}
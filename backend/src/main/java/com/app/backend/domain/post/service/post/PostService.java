@@ -1,6 +1,5 @@
 package com.app.backend.domain.post.service.post;
 
-import com.app.backend.domain.attachment.entity.FileType;
 import com.app.backend.domain.attachment.exception.FileErrorCode;
 import com.app.backend.domain.attachment.exception.FileException;
 import com.app.backend.domain.attachment.service.FileService;
@@ -15,7 +14,6 @@ import com.app.backend.domain.group.repository.GroupMembershipRepository;
 import com.app.backend.domain.member.entity.Member;
 import com.app.backend.domain.member.repository.MemberRepository;
 import com.app.backend.domain.post.dto.req.PostReqDto;
-import com.app.backend.domain.post.dto.resp.PostAttachmentRespDto;
 import com.app.backend.domain.post.dto.resp.PostRespDto;
 import com.app.backend.domain.post.entity.Post;
 import com.app.backend.domain.post.entity.PostAttachment;
@@ -26,23 +24,38 @@ import com.app.backend.domain.post.exception.PostException;
 import com.app.backend.domain.post.repository.post.PostLikeRepository;
 import com.app.backend.domain.post.repository.post.PostRepository;
 import com.app.backend.domain.post.repository.postAttachment.PostAttachmentRepository;
+import com.app.backend.domain.post.service.postSearch.PostSearchIndexer;
 import com.app.backend.global.annotation.CustomCache;
 import com.app.backend.global.annotation.CustomCacheDelete;
+import com.app.backend.global.annotation.CustomPageCount;
 import com.app.backend.global.config.FileConfig;
+import com.app.backend.global.dto.response.CursorPage;
 import com.app.backend.global.entity.BaseEntity;
 import com.app.backend.global.error.exception.GlobalErrorCode;
+import com.app.backend.global.util.CacheTagIndex;
+import com.app.backend.global.util.PageCounter.CountStrategy;
+import com.app.backend.global.util.PageCursor;
+import com.app.backend.global.util.TrendingIndex;
+import com.app.backend.global.util.ViewerStatistics;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -56,11 +69,20 @@ public class PostService {
     private final PostLikeRepository postLikeRepository;
     private final PostAttachmentRepository postAttachmentRepository;
     private final GroupMembershipRepository groupMembershipRepository;
+    private final CacheTagIndex cacheTagIndex;
+    private final ViewerStatistics viewerStatistics;
+    private final TrendingIndex trendingIndex;
+    private final PostSearchIndexer postSearchIndexer;
+    private final PostDetailAssembler postDetailAssembler;
 
 
     private final int MAX_FILE_SIZE = 10 * 1024 * 1024;
+    private static final String TRENDING_PREFIX = "post:trending:groupid:";
+    private static final int TRENDING_CANDIDATES = 20;
+    private static final int TOP_POSTS = 5;
 
-    @CustomCache(prefix = "post", key = "postid", id = "postId", viewCount = true, viewCountTtl = 10, history = true)
+    @CustomCache(prefix = "post", key = "postid", id = "postId", viewCount = true, viewCountTtl = 10, history = true, local = true, lease = true,
+            trending = "'" + TRENDING_PREFIX + "' + #result.groupId")
     public PostRespDto.GetPostDto getPost(final Long postId, final Long memberId) {
         Post post = getPostEntity(postId);
 
@@ -68,37 +90,126 @@ public class PostService {
             throw new PostException(PostErrorCode.POST_UNAUTHORIZATION);
         }
 
-        Member member = getMemberEntity(memberId);
-
-        // document
-        List<PostAttachmentRespDto.GetPostDocumentDto> documents = postAttachmentRepository
-                .findByPostIdAndFileTypeAndDisabledOrderByCreatedAtDesc(postId, FileType.DOCUMENT, false).stream()
-                .map(PostAttachmentRespDto::getPostDocument)
-                .toList();
+        // 게시글 ID 로 캐시되어 모든 회원이 같은 응답을 받으므로 회원별 좋아요 여부는 넣지 않음(좋아요 여부 조회 API 사용)
+        return postDetailAssembler.assemble(List.of(post), id -> true).get(0);
+    }
 
-        // image
-        List<PostAttachmentRespDto.GetPostImageDto> images = postAttachmentRepository
-                .findByPostIdAndFileTypeAndDisabledOrderByCreatedAtDesc(postId, FileType.IMAGE, false).stream()
-                .map(file -> PostAttachmentRespDto.GetPostImage(file, fileConfig.getIMAGE_DIR()))
-                .toList();
+    /**
+     * 여러 게시글 상세 조회(피드용), 게시글 수와 관계없이 최대 5번의 쿼리로 조회(좋아요 여부는 조회 회원 기준)
+     * <p>
+     * 삭제되었거나 조회 권한이 없는(비공개 + 승인된 모임 회원 아님) 게시글은 제외하고 요청 순서를 유지한다.
+     *
+     * @param postIds  - 게시글 ID 목록
+     * @param memberId - 조회하는 회원 ID
+     */
+    public List<PostRespDto.GetPostDto> getPostDetails(final List<Long> postIds, final Long memberId) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
 
-        return PostRespDto.toGetPost(post, member, images, documents, true);
+        Map<Long, Post> posts = postRepository.findAllByIdInAndDisabled(postIds, false).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+        Set<Long> privateGroupIds = posts.values().stream()
+                .filter(post -> post.getPostStatus() != PostStatus.PUBLIC)
+                .map(Post::getGroupId)
+                .collect(Collectors.toSet());
+        Set<Long> approvedGroupIds = postDetailAssembler.findApprovedGroupIds(memberId, privateGroupIds);
+
+        return postDetailAssembler.assemble(postIds.stream()
+                .distinct()
+                .map(posts::get)
+                .filter(Objects::nonNull)
+                .filter(post -> PostDetailAssembler.isReadable(post, approvedGroupIds))
+                .toList(), memberId);
     }
 
-    @CustomCache(prefix = "post", key = "groupid", id = "groupId", ttl = 2)
+    @CustomCache(prefix = "post", key = "groupid", id = "groupId", ttl = 30, staleTtl = 30, ttlUnit = TimeUnit.SECONDS, local = true,
+            tags = "'group:' + #groupId")
     public List<PostRespDto.GetPostListDto> getTopFivePosts(final Long groupId) {
-        return postRepository
-                .findPostsByGroupIdOrderByTodayViewsCountDesc(groupId,5,false)
+        List<PostRespDto.GetPostListDto> trendingPosts = getTrendingPosts(groupId, TOP_POSTS);
+        if (trendingPosts.size() >= TOP_POSTS) {
+            return trendingPosts;
+        }
+
+        // 실시간 순위가 부족하면 오늘 조회수 순으로 나머지를 채움(이미 포함된 게시글 제외)
+        Set<Long> includedIds = trendingPosts.stream()
+                .map(PostRespDto.GetPostListDto::getPostId)
+                .collect(Collectors.toSet());
+
+        List<PostRespDto.GetPostListDto> topPosts = new ArrayList<>(trendingPosts);
+        postRepository
+                .findPostsByGroupIdOrderByTodayViewsCountDesc(groupId, TOP_POSTS + includedIds.size(), false)
                 .stream()
-                .map(PostRespDto::toGetPostList).toList();
+                .filter(row -> !includedIds.contains(row.postId()))
+                .limit(TOP_POSTS - trendingPosts.size())
+                .map(PostRespDto::toGetPostList)
+                .forEach(topPosts::add);
+
+        return topPosts;
+    }
+
+    /**
+     * 실시간 인기 순위 상위 게시글, 순위가 없거나 Redis 를 사용할 수 없으면 빈 목록
+     * <p>
+     * 삭제된 게시글을 제외하기 위해 limit 보다 많은 후보를 조회한 뒤 한 번의 IN 쿼리로 게시글을 가져온다.
+     */
+    private List<PostRespDto.GetPostListDto> getTrendingPosts(final Long groupId, final int limit) {
+        List<Long> postIds;
+        try {
+            postIds = trendingIndex.top(TRENDING_PREFIX + groupId, TRENDING_CANDIDATES).stream()
+                    .map(postId -> Long.valueOf(postId.toString()))
+                    .toList();
+        } catch (DataAccessException e) {
+            return List.of();
+        }
+
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, PostRespDto.PostListRow> posts = postRepository.findPostsByIdIn(postIds, false).stream()
+                .collect(Collectors.toMap(PostRespDto.PostListRow::postId, Function.identity()));
+
+        return postIds.stream()
+                .map(posts::get)
+                .filter(Objects::nonNull)
+                .limit(limit)
+                .map(PostRespDto::toGetPostList)
+                .toList();
+    }
+
+    /**
+     * 최근 days 일간 게시물 순 방문자 수(추정치)
+     */
+    public long getUniqueViewerCount(final Long postId, final int days) {
+        getPostEntity(postId);
+
+        LocalDate today = LocalDate.now();
+        return viewerStatistics.countUniqueViewers("post:postid:" + postId, today.minusDays(days - 1L), today);
     }
 
+    @CustomPageCount(strategy = CountStrategy.CACHED, prefix = "post", key = "#groupId + ':' + #search + ':' + #postStatus",
+            tags = "'group:' + #groupId")
     public Page<PostRespDto.GetPostListDto> getPostsBySearch(final Long groupId, final String search, final PostStatus postStatus, final Pageable pageable) {
         return postRepository
                 .findAllBySearchStatus(groupId, search, postStatus, false, pageable)
                 .map(PostRespDto::toGetPostList);
     }
 
+    /**
+     * 게시글 목록 커서 기반 조회(최신순), 전체 개수를 세지 않음
+     *
+     * @param cursor - 이전 페이지의 nextCursor, 첫 페이지는 null
+     * @param size   - 페이지 크기
+     */
+    public CursorPage<PostRespDto.GetPostListDto> getPostsByCursor(final Long groupId, final String search, final PostStatus postStatus, final String cursor, final int size) {
+        List<PostRespDto.PostListRow> posts = postRepository
+                .findAllBySearchStatus(groupId, search, postStatus, false, PageCursor.decode(cursor), size + 1);
+
+        return CursorPage.of(posts, size, post -> new PageCursor(post.createdAt(), post.postId()), PostRespDto::toGetPostList);
+    }
+
     public Page<PostRespDto.GetPostListDto> getPostsByUser(final PostReqDto.SearchPostDto searchPost, final Pageable pageable, final Long memberId) {
         return postRepository
                 .findAllByUserAndSearchStatus(searchPost.getGroupId(), memberId, searchPost.getSearch(), searchPost.getPostStatus(), false, pageable)
@@ -119,15 +230,18 @@ public class PostService {
         }
         Member member = getMemberEntity(memberId);
         Post post = postRepository.save(savePost.toEntity(memberId, member.getNickname()));
+        postSearchIndexer.index(post);
 
         saveFiles(files, post);
 
+        cacheTagIndex.evict("group:" + post.getGroupId());
+
         return post;
     }
 
 
     @Transactional
-    @CustomCacheDelete(prefix = "post", key = "postid", id = "postId")
+    @CustomCacheDelete(prefix = "post", key = "postid", id = "postId", tags = "'group:' + #result.groupId")
     public Post updatePost(final Long memberId, final Long postId, final PostReqDto.ModifyPostDto modifyPost, final MultipartFile[] files) {
         GroupMembership membership = getMemberShipEntity(modifyPost.getGroupId(), memberId);
         Post post = getPostEntity(postId);
@@ -145,6 +259,7 @@ public class PostService {
         post.setTitle(modifyPost.getTitle());
         post.setContent(modifyPost.getContent());
         post.setPostStatus(modifyPost.getPostStatus());
+        postSearchIndexer.index(post);
 
         saveFiles(files, post);
 
@@ -171,8 +286,11 @@ public class PostService {
         }
 
         postAttachmentRepository.deleteByPostId(postId);
+        postSearchIndexer.remove(postId);
 
         post.delete();
+
+        cacheTagIndex.evict("group:" + post.getGroupId());
     }
 
 
@@ -0,0 +1,144 @@
+package com.app.backend.domain.post.service.postSearch;
+
+import com.app.backend.domain.post.entity.Post;
+import com.app.backend.global.util.LockManager;
+import com.app.backend.global.util.LockUtil.LockWrapper;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시글 검색 역색인(tbl_post_search_tokens) 갱신
+ * <p>
+ * 게시글 저장/수정 시 해당 게시글의 토큰을 지우고 다시 추가하며, 삭제 시 토큰을 지운다.
+ * 게시글과 같은 트랜잭션에서 실행되므로 게시글 변경이 롤백되면 색인 변경도 롤백된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostSearchIndexer {
+
+    private static final int    REBUILD_CHUNK_SIZE = 500;
+    private static final String REBUILD_LOCK_KEY   = "lock:post-search-rebuild";
+    private static final long   REBUILD_ID         = 1L;
+
+    private final JdbcTemplate        jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final LockManager         lockManager;
+
+    /**
+     * 게시글 색인, 기존 토큰은 교체
+     */
+    @Transactional
+    public void index(final Post post) {
+        remove(post.getId());
+        insertTokens(post.getId(), post.getGroupId(), post.getTitle(), post.getContent());
+    }
+
+    @Transactional
+    public void remove(final Long postId) {
+        jdbcTemplate.update("DELETE FROM tbl_post_search_tokens WHERE post_id = ?", postId);
+    }
+
+    /**
+     * 색인 재구성이 끝나지 않았으면(최초 배포, 중단 등) 활성 게시글 전체를 ID 순서로 나눠 색인
+     * <p>
+     * 진행 상태는 tbl_post_search_rebuild 에 청크마다 기록하므로, 중단되면 다음 시작 시 마지막으로 색인한 게시글 다음부터 이어서 진행한다.
+     * 재구성 전에 저장/수정되어 이미 색인된 게시글은 다시 색인해도 토큰이 교체될 뿐이다. <br>
+     * 여러 서버가 동시에 시작해도 락을 얻은 한 곳에서만 재구성하며, 나머지는 기다리지 않고 건너뛴다.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void rebuildIfIncomplete() {
+        LockWrapper lockWrapper = lockManager.acquireLock(REBUILD_LOCK_KEY, 0L, -1L);
+        if (!lockWrapper.isLocked()) {
+            return;
+        }
+
+        try {
+            rebuild();
+        } finally {
+            lockManager.releaseLock(lockWrapper);
+        }
+    }
+
+    private void rebuild() {
+        List<RebuildState> states = jdbcTemplate.query(
+                "SELECT last_post_id, completed_at FROM tbl_post_search_rebuild WHERE rebuild_id = ?",
+                (rs, rowNum) -> new RebuildState(rs.getLong(1), rs.getTimestamp(2) != null),
+                REBUILD_ID);
+        if (states.isEmpty()) {
+            jdbcTemplate.update("INSERT INTO tbl_post_search_rebuild (rebuild_id, last_post_id) VALUES (?, 0)", REBUILD_ID);
+        } else if (states.get(0).completed()) {
+            return;
+        }
+
+        long lastId = states.isEmpty() ? 0L : states.get(0).lastPostId();
+        long posts = 0L;
+        while (true) {
+            List<PostRow> rows = jdbcTemplate.query(
+                    "SELECT post_id, group_id, title, content FROM tbl_posts " +
+                            "WHERE disabled = FALSE AND post_id > ? ORDER BY post_id LIMIT ?",
+                    (rs, rowNum) -> new PostRow(rs.getLong(1), rs.getLong(2), rs.getString(3), rs.getString(4)),
+                    lastId, REBUILD_CHUNK_SIZE);
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            long chunkLastId = rows.get(rows.size() - 1).postId();
+            transactionTemplate.executeWithoutResult(status -> {
+                rows.forEach(row -> {
+                    jdbcTemplate.update("DELETE FROM tbl_post_search_tokens WHERE post_id = ?", row.postId());
+                    insertTokens(row.postId(), row.groupId(), row.title(), row.content());
+                });
+                jdbcTemplate.update("UPDATE tbl_post_search_rebuild SET last_post_id = ? WHERE rebuild_id = ?",
+                                    chunkLastId, REBUILD_ID);
+            });
+            lastId = chunkLastId;
+            posts += rows.size();
+        }
+
+        jdbcTemplate.update("UPDATE tbl_post_search_rebuild SET completed_at = ? WHERE rebuild_id = ?",
+                            Timestamp.valueOf(LocalDateTime.now()), REBUILD_ID);
+        log.info("게시글 검색 색인 재구성 완료, 이번에 색인한 게시글 수: {}, 마지막 게시글 ID: {}", posts, lastId);
+    }
+
+    private void insertTokens(final Long postId, final Long groupId, final String title, final String content) {
+        List<Map.Entry<String, Integer>> tokens =
+                new ArrayList<>(PostSearchTokenizer.tokenize(title, content).entrySet());
+        if (tokens.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO tbl_post_search_tokens (token, post_id, group_id, weight) VALUES (?, ?, ?, ?)",
+                tokens,
+                tokens.size(),
+                (ps, token) -> {
+                    ps.setString(1, token.getKey());
+                    ps.setLong(2, postId);
+                    ps.setLong(3, groupId);
+                    ps.setInt(4, token.getValue());
+                });
+    }
+
+    private record PostRow(long postId, long groupId, String title, String content) {
+    }
+
+    private record RebuildState(long lastPostId, boolean completed) {
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.app.backend.domain.post.service.postSearch;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 게시글 검색용 2-gram 토크나이저
+ * <p>
+ * 형태소 분석 없이 한국어 부분 일치를 지원하기 위해 단어를 두 글자씩 겹쳐 나눈다(예: 테스트 → 테스, 스트).
+ * 유니코드 정규화(NFKC)와 소문자 변환 후 문자/숫자가 아닌 글자를 기준으로 단어를 나누며, 한 글자 단어는 색인하지 않는다.
+ */
+public final class PostSearchTokenizer {
+
+    public static final int TITLE_WEIGHT   = 3;
+    public static final int CONTENT_WEIGHT = 1;
+
+    private static final Pattern DELIMITER = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private PostSearchTokenizer() {
+    }
+
+    /**
+     * 색인할 토큰과 가중치
+     *
+     * @return 토큰별 가중치 합(제목 토큰 3, 내용 토큰 1)
+     */
+    public static Map<String, Integer> tokenize(final String title, final String content) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        addTokens(weights, title, TITLE_WEIGHT);
+        addTokens(weights, content, CONTENT_WEIGHT);
+        return weights;
+    }
+
+    /**
+     * 검색어 토큰, 비어 있으면 2-gram 으로 검색할 수 없는 검색어(한 글자 단어만 있는 경우 등)
+     */
+    public static Set<String> queryTokens(final String search) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : words(search)) {
+            for (int i = 0; i + 1 < word.length(); i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 검색어 단어 목록, 2-gram 으로 찾은 후보가 실제로 단어를 포함하는지 확인할 때 사용
+     */
+    public static List<String> queryWords(final String search) {
+        return Arrays.stream(words(search)).filter(word -> !word.isEmpty()).toList();
+    }
+
+    private static void addTokens(final Map<String, Integer> weights, final String text, final int weight) {
+        for (String word : words(text)) {
+            for (int i = 0; i + 1 < word.length(); i++) {
+                weights.merge(word.substring(i, i + 2), weight, Integer::sum);
+            }
+        }
+    }
+
+    private static String[] words(final String text) {
+        if (text == null || text.isBlank()) {
+            return new String[0];
+        }
+        return DELIMITER.split(Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT));
+    }
+
+}
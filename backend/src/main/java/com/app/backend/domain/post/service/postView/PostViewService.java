@@ -0,0 +1,184 @@
+package com.app.backend.domain.post.service.postView;
+
+import com.app.backend.domain.post.dto.resp.PostViewRespDto;
+import com.app.backend.domain.post.entity.ViewRollupUnit;
+import com.app.backend.domain.post.repository.post.PostViewRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시글 조회수 시계열 집계(tbl_post_view_rollups) 기록 및 조회
+ * <p>
+ * 통계 조회는 집계 테이블만 사용하며 tbl_posts 를 읽지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostViewService {
+
+    private static final int HOUR_RETENTION_DAYS = 14;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PostViewRollupRepository postViewRollupRepository;
+
+    /**
+     * 동기화된 조회수를 시간 구간 행으로 추가, 그룹 ID 는 INSERT ... SELECT 로 채우며 없는 게시글은 건너뜀
+     *
+     * @param bucketAt - 조회수를 반영할 시각(시간 단위로 절삭)
+     * @param deltas   - 게시글별 증가한 조회수
+     */
+    @Transactional
+    public void appendHourly(final LocalDateTime bucketAt, final List<ViewDelta> deltas) {
+        Timestamp bucketStart = Timestamp.valueOf(bucketAt.withMinute(0).withSecond(0).withNano(0));
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO tbl_post_view_rollups (unit, bucket_start, post_id, group_id, view_count) " +
+                        "SELECT 'HOUR', ?, post_id, group_id, ? FROM tbl_posts WHERE post_id = ?",
+                deltas,
+                deltas.size(),
+                (ps, delta) -> {
+                    ps.setTimestamp(1, bucketStart);
+                    ps.setLong(2, delta.count());
+                    ps.setLong(3, delta.postId());
+                });
+    }
+
+    /**
+     * 마지막으로 집계한 다음 날부터 어제까지 HOUR 행을 DAY 행으로 집계하고, 보관 기간이 지난 HOUR 행 삭제
+     * <p>
+     * 날짜마다 별도 트랜잭션으로 처리하며, 같은 날짜를 다시 집계하면 기존 DAY 행을 지우고 새로 추가한다.
+     *
+     * @param today - 오늘 날짜(집계 대상에서 제외)
+     * @return 집계한 날짜 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int rollupDays(final LocalDate today) {
+        LocalDate retentionStart = today.minusDays(HOUR_RETENTION_DAYS);
+        LocalDate next = nextDayToRollup();
+
+        int days = 0;
+        for (LocalDate day = next == null || next.isAfter(retentionStart) ? next : retentionStart;
+             day != null && day.isBefore(today);
+             day = day.plusDays(1)) {
+            final LocalDate target = day;
+            transactionTemplate.executeWithoutResult(status -> rollupDay(target));
+            days++;
+        }
+
+        Integer purged = transactionTemplate.execute(status -> jdbcTemplate.update(
+                "DELETE FROM tbl_post_view_rollups WHERE unit = 'HOUR' AND bucket_start < ?",
+                Timestamp.valueOf(retentionStart.atStartOfDay())));
+
+        log.info("조회수 일 단위 집계 완료, 집계 일수: {}, 삭제된 시간 단위 행 수: {}", days, purged);
+        return days;
+    }
+
+    /**
+     * 최근 days 일간 게시글 조회수, HOUR 는 보관 기간(14일) 이내만 조회 가능
+     */
+    public List<PostViewRespDto.ViewBucketDto> getPostViews(final Long postId, final ViewRollupUnit unit, final int days) {
+        LocalDateTime today = LocalDate.now().atStartOfDay();
+        LocalDateTime tomorrow = today.plusDays(1);
+
+        if (unit == ViewRollupUnit.HOUR) {
+            return postViewRollupRepository
+                    .findPostBuckets(postId, ViewRollupUnit.HOUR, today.minusDays(Math.min(days, HOUR_RETENTION_DAYS) - 1L), tomorrow)
+                    .stream()
+                    .map(bucket -> PostViewRespDto.toViewBucket(bucket.getBucketStart(), bucket.getViewCount()))
+                    .toList();
+        }
+
+        List<PostViewRespDto.ViewBucketDto> buckets = new ArrayList<>(postViewRollupRepository
+                .findPostBuckets(postId, ViewRollupUnit.DAY, today.minusDays(days - 1L), today)
+                .stream()
+                .map(bucket -> PostViewRespDto.toViewBucket(bucket.getBucketStart(), bucket.getViewCount()))
+                .toList());
+
+        // 오늘은 아직 DAY 행이 없으므로 HOUR 행을 합산
+        long todayViews = postViewRollupRepository.findPostBuckets(postId, ViewRollupUnit.HOUR, today, tomorrow)
+                .stream()
+                .mapToLong(PostViewRollupRepository.ViewBucket::getViewCount)
+                .sum();
+        if (todayViews > 0) {
+            buckets.add(PostViewRespDto.toViewBucket(today, todayViews));
+        }
+        return buckets;
+    }
+
+    /**
+     * 최근 days 일간 그룹의 일별 조회수와 조회된 게시글 수
+     */
+    public List<PostViewRespDto.GroupActivityDto> getGroupActivity(final Long groupId, final int days) {
+        LocalDateTime today = LocalDate.now().atStartOfDay();
+
+        List<PostViewRespDto.GroupActivityDto> buckets = new ArrayList<>(postViewRollupRepository
+                .findGroupBuckets(groupId, ViewRollupUnit.DAY, today.minusDays(days - 1L), today)
+                .stream()
+                .map(bucket -> PostViewRespDto.toGroupActivity(bucket.getBucketStart(), bucket.getViewCount(), bucket.getPostCount()))
+                .toList());
+
+        PostViewRollupRepository.GroupTotal todayTotal =
+                postViewRollupRepository.findGroupTotal(groupId, ViewRollupUnit.HOUR, today, today.plusDays(1));
+        if (todayTotal != null && todayTotal.getViewCount() != null) {
+            buckets.add(PostViewRespDto.toGroupActivity(today, todayTotal.getViewCount(), todayTotal.getPostCount()));
+        }
+        return buckets;
+    }
+
+    /**
+     * 최근 days 일간(오늘 포함) 그룹 내 조회수 상위 게시글
+     */
+    public List<PostViewRespDto.PostViewsDto> getTrendingPosts(final Long groupId, final int days, final int limit) {
+        LocalDateTime today = LocalDate.now().atStartOfDay();
+
+        return postViewRollupRepository
+                .findTopPosts(groupId, today.minusDays(days - 1L), today, PageRequest.of(0, limit))
+                .stream()
+                .map(postViews -> new PostViewRespDto.PostViewsDto(postViews.getPostId(), postViews.getViewCount()))
+                .toList();
+    }
+
+    private LocalDate nextDayToRollup() {
+        Timestamp lastDay = jdbcTemplate.queryForObject(
+                "SELECT MAX(bucket_start) FROM tbl_post_view_rollups WHERE unit = 'DAY'", Timestamp.class);
+        if (lastDay != null) {
+            return lastDay.toLocalDateTime().toLocalDate().plusDays(1);
+        }
+
+        Timestamp firstHour = jdbcTemplate.queryForObject(
+                "SELECT MIN(bucket_start) FROM tbl_post_view_rollups WHERE unit = 'HOUR'", Timestamp.class);
+        return firstHour == null ? null : firstHour.toLocalDateTime().toLocalDate();
+    }
+
+    private void rollupDay(final LocalDate day) {
+        Timestamp dayStart = Timestamp.valueOf(day.atStartOfDay());
+
+        jdbcTemplate.update("DELETE FROM tbl_post_view_rollups WHERE unit = 'DAY' AND bucket_start = ?", dayStart);
+        jdbcTemplate.update(
+                "INSERT INTO tbl_post_view_rollups (unit, bucket_start, post_id, group_id, view_count) " +
+                        "SELECT 'DAY', ?, post_id, MAX(group_id), SUM(view_count) FROM tbl_post_view_rollups " +
+                        "WHERE unit = 'HOUR' AND bucket_start >= ? AND bucket_start < ? GROUP BY post_id",
+                dayStart, dayStart, Timestamp.valueOf(day.plusDays(1).atStartOfDay()));
+    }
+
+    /**
+     * @param postId - 게시글 ID
+     * @param count  - 증가한 조회수
+     */
+    public record ViewDelta(long postId, long count) {
+    }
+}
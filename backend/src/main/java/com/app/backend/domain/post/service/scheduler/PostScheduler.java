@@ -1,23 +1,32 @@
 package com.app.backend.domain.post.service.scheduler;
 
-import com.app.backend.domain.attachment.service.FileService;
-import com.app.backend.domain.post.entity.Post;
-import com.app.backend.domain.post.entity.PostAttachment;
-import com.app.backend.domain.post.repository.post.PostRepository;
-import com.app.backend.domain.post.repository.postAttachment.PostAttachmentRepository;
+import com.app.backend.domain.attachment.service.FileDeletePipeline;
+import com.app.backend.domain.post.service.postView.PostViewService;
+import com.app.backend.domain.post.service.postView.PostViewService.ViewDelta;
+import com.app.backend.global.annotation.CustomJob;
 import com.app.backend.global.config.FileConfig;
-import jakarta.transaction.Transactional;
+import com.app.backend.global.util.JobPartition;
+import com.app.backend.global.util.PurgeEngine;
+import com.app.backend.global.util.PurgeEngine.PurgeTarget;
+import com.app.backend.global.util.RedisHealthMonitor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 
 @Slf4j
 @Service
@@ -25,99 +34,275 @@ import java.util.Set;
 public class PostScheduler {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisHealthMonitor redisHealthMonitor;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
 
     private final FileConfig fileConfig;
-    private final FileService fileService;
-    private final PostRepository postRepository;
-    private final PostAttachmentRepository postAttachmentRepository;
+    private final FileDeletePipeline fileDeletePipeline;
+    private final PurgeEngine purgeEngine;
+    private final PostViewService postViewService;
 
     private static final String POST_UPDATE = "post:update";
     private static final String POST_HISTORY = "post:history";
     private static final String VIEW_COUNT_PREFIX = "viewCount:post:postid:";
     private static final int deleteDays = 7;
+    private static final int CHUNK_SIZE = 500;
 
-    @Transactional
+    private static final PurgeTarget POST_PURGE_TARGET = PurgeTarget.builder()
+            .name("post")
+            .table("tbl_posts")
+            .idColumn("post_id")
+            .dependent("DELETE FROM tbl_comment_likes WHERE comment_id IN (SELECT comment_id FROM tbl_comments WHERE post_id IN (%s))")
+            .dependent("DELETE FROM tbl_comments WHERE post_id IN (%s) AND parent_id IS NOT NULL")
+            .dependent("DELETE FROM tbl_comments WHERE post_id IN (%s)")
+            .dependent("DELETE FROM tbl_post_likes WHERE post_id IN (%s)")
+            .build();
+
+    /**
+     * KEYS : post:update, 조회수 키 목록 <br>
+     * ARGV : 조회수 키에 대응하는 post:update 항목(직렬화된 값) <br>
+     * 조회수 키 값을 읽고 삭제한 뒤 집합에서 항목을 제거, 읽은 값 목록을 반환
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> VIEW_COUNT_DRAIN_SCRIPT = new DefaultRedisScript<>("""
+            local values = {}
+            for i = 2, #KEYS do
+                values[i - 1] = redis.call('GET', KEYS[i])
+                redis.call('DEL', KEYS[i])
+                redis.call('SREM', KEYS[1], ARGV[i - 1])
+            end
+            return values
+            """, List.class);
+
+    /**
+     * KEYS : post:update, 조회수 키 목록 <br>
+     * ARGV : (되돌릴 조회수, post:update 항목) 쌍 목록
+     */
+    private static final RedisScript<Long> VIEW_COUNT_RESTORE_SCRIPT = new DefaultRedisScript<>("""
+            for i = 2, #KEYS do
+                redis.call('INCRBY', KEYS[i], ARGV[i * 2 - 3])
+                redis.call('SADD', KEYS[1], ARGV[i * 2 - 2])
+            end
+            return #KEYS - 1
+            """, Long.class);
+
+    @CustomJob(name = "post-view-count-flush")
     @Scheduled(fixedRate = 600_000) // 10분
     public void viewCountsRedisToRDB() {
-        processViewCountSave(POST_UPDATE, false);
+        processViewCountSave(LocalDateTime.now());
     }
 
-    @Transactional
+    /**
+     * 자정에 오늘 조회수를 전날 마지막 시간 구간으로 동기화한 뒤 초기화
+     * <p>
+     * 실행 날짜가 곧 초기화 대상이므로 놓친 실행은 시작 시 따라잡지 않는다(낮에 실행되면 오늘 조회수를 전날로 집계하고 지움).
+     * 일 단위 집계(post-view-rollup)는 마지막 집계 날짜부터 어제까지 처리하므로 따라잡아도 안전하다.
+     */
+    @CustomJob(name = "post-view-count-reset", catchUp = false)
     @Scheduled(cron = "0 0 0 * * ?")
     public void refreshViewCount() {
-        processViewCountSave(POST_HISTORY, true);
+        // 자정 동기화분은 전날 마지막 시간 구간에 집계
+        processViewCountSave(LocalDate.now().atStartOfDay().minusHours(1));
+        processViewCountReset();
+    }
+
+    @CustomJob(name = "post-view-rollup")
+    @Scheduled(cron = "0 30 0 * * ?")
+    public void rollupViewCounts() {
+        postViewService.rollupDays(LocalDate.now());
     }
 
-    @Transactional
+    /**
+     * 비활성화 후 7일이 지난 게시글과 첨부파일 삭제
+     * <p>
+     * 청크 단위로 짧은 트랜잭션에서 삭제하며, 게시글은 댓글/좋아요를 먼저 삭제한다. 첨부파일의 물리 파일은 커밋 후 삭제 파이프라인에 넘긴다.
+     */
+    @CustomJob(name = "post-purge", partitions = 4)
     @Scheduled(cron = "0 0 4 * * ?")
     public void deletePosts() {
         LocalDateTime deleteDay = LocalDate.now().minusDays(deleteDays).atStartOfDay();
+        JobPartition partition = JobPartition.current();
 
-        processDeletePosts(deleteDay);
-        processDeleteFiles(deleteDay);
+        processDeletePosts(deleteDay, partition);
+        processDeleteFiles(deleteDay, partition);
     }
 
-    private void processViewCountSave(final String typeKey, final boolean isReset) {
-        try {
-            Set<Object> updatedPostIds = redisTemplate.opsForSet().members(typeKey);
+    /**
+     * Redis 에 쌓인 조회수를 RDB 에 반영
+     * <p>
+     * post:update 를 SSCAN 으로 나눠 읽고, 청크마다 조회수 키 GET/DEL 과 SREM 을 하나의 스크립트로 원자적으로 처리한다.
+     * 스크립트 실행 전 증가분은 이번 청크에, 이후 증가분은 새 키와 집합 항목으로 남아 다음 동기화에 반영되므로 중복/누락이 없다.
+     * DB 반영에 실패한 청크는 조회수와 집합 항목을 Redis 에 되돌린다. 반영한 조회수는 같은 트랜잭션에서 시간 단위 집계에도 추가한다.
+     *
+     * @param bucketAt - 시간 단위 집계에 반영할 시각
+     */
+    private void processViewCountSave(final LocalDateTime bucketAt) {
+        if (!redisHealthMonitor.isAvailable()) {
+            log.warn("Redis 를 사용할 수 없어 조회수 동기화를 건너뜁니다");
+            return;
+        }
 
-            if (updatedPostIds == null || updatedPostIds.isEmpty()) {
-                log.info("동기화 데이터가 존재하지 않습니다");
-                return;
+        long flushed = 0;
+        try (Cursor<Object> cursor = redisTemplate.opsForSet()
+                                                  .scan(POST_UPDATE, ScanOptions.scanOptions().count(CHUNK_SIZE).build())) {
+            List<Object> members = new ArrayList<>(CHUNK_SIZE);
+            while (cursor.hasNext()) {
+                members.add(cursor.next());
+                if (members.size() == CHUNK_SIZE) {
+                    flushed += flushViewCounts(members, bucketAt);
+                    members.clear();
+                }
             }
+            if (!members.isEmpty())
+                flushed += flushViewCounts(members, bucketAt);
 
-            List<Long> postIds = updatedPostIds.stream()
-                    .map(key -> key.toString().substring(key.toString().lastIndexOf(":") + 1))
-                    .map(Long::parseLong)
-                    .toList();
-
-            List<Post> posts = postRepository.findAllById(postIds);
+            log.info("조회수 동기화를 완료했습니다, 반영된 게시글 수: {}", flushed);
+        } catch (Exception e) {
+            log.error("조회수 동기화에 실패했습니다", e);
+        }
+    }
 
-            posts.forEach(post -> {
-                String viewCountKey = VIEW_COUNT_PREFIX + post.getId();
-                Object viewCountValue = redisTemplate.opsForValue().get(viewCountKey);
-                if (viewCountValue != null) {
-                    post.addTodayViewCount(Long.parseLong(viewCountValue.toString()));
-                    redisTemplate.delete(viewCountKey);
-                }
-                if (isReset) {
-                    post.refreshViewCount();
+    /**
+     * 오늘 조회수를 누적 조회수로 옮기고 초기화, 대상은 post:history 에 기록된 게시글
+     */
+    private void processViewCountReset() {
+        try (Cursor<Object> cursor = redisTemplate.opsForSet()
+                                                  .scan(POST_HISTORY, ScanOptions.scanOptions().count(CHUNK_SIZE).build())) {
+            List<Object> members = new ArrayList<>(CHUNK_SIZE);
+            while (cursor.hasNext()) {
+                members.add(cursor.next());
+                if (members.size() == CHUNK_SIZE) {
+                    resetViewCounts(members);
+                    members.clear();
                 }
+            }
+            if (!members.isEmpty())
+                resetViewCounts(members);
+
+            log.info("조회수 초기화를 완료했습니다");
+        } catch (Exception e) {
+            log.error("조회수 초기화에 실패했습니다", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private int flushViewCounts(final List<Object> members, final LocalDateTime bucketAt) {
+        RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+
+        List<Long>   postIds = toPostIds(members);
+        List<String> keys    = new ArrayList<>(members.size() + 1);
+        keys.add(POST_UPDATE);
+        postIds.forEach(postId -> keys.add(VIEW_COUNT_PREFIX + postId));
+
+        List<byte[]> values = redisTemplate.execute(VIEW_COUNT_DRAIN_SCRIPT,
+                                                    RedisSerializer.byteArray(),
+                                                    (RedisSerializer) RedisSerializer.byteArray(),
+                                                    keys,
+                                                    members.stream().map(valueSerializer::serialize).toArray());
+        if (values == null)
+            return 0;
+
+        List<ViewDelta> drained = new ArrayList<>();
+        for (int i = 0; i < postIds.size(); i++) {
+            long count = toCount(values.get(i), valueSerializer);
+            if (count > 0)
+                drained.add(new ViewDelta(postIds.get(i), count));
+        }
+        if (drained.isEmpty())
+            return 0;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(
+                        "UPDATE tbl_posts SET today_view_count = today_view_count + ? WHERE post_id = ?",
+                        drained,
+                        drained.size(),
+                        (ps, viewDelta) -> {
+                            ps.setLong(1, viewDelta.count());
+                            ps.setLong(2, viewDelta.postId());
+                        });
+                postViewService.appendHourly(bucketAt, drained);
             });
+        } catch (Exception e) {
+            restoreViewCounts(drained, valueSerializer);
+            throw e;
+        }
+        return drained.size();
+    }
 
-            postRepository.saveAll(posts);
-            redisTemplate.delete(POST_UPDATE);
+    @SuppressWarnings("unchecked")
+    private void resetViewCounts(final List<Object> members) {
+        RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
 
-            if (isReset) {
-                redisTemplate.delete(POST_HISTORY);
-            }
+        List<Long> postIds = toPostIds(members);
+        redisTemplate.opsForSet().remove(POST_HISTORY, members.toArray());
 
-            log.info("데이터 동기화를 완료했습니다");
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                    "UPDATE tbl_posts SET total_view_count = total_view_count + today_view_count, today_view_count = 0 WHERE post_id = ?",
+                    postIds,
+                    postIds.size(),
+                    (ps, postId) -> ps.setLong(1, postId)));
         } catch (Exception e) {
-            log.error("데이터 동기화에 실패했습니다");
+            redisTemplate.opsForSet().add(POST_HISTORY, members.toArray());
+            throw e;
         }
     }
 
-    private void processDeletePosts(final LocalDateTime deleteDay) {
-        postRepository.deleteAllByModifiedAtAndDisabled(deleteDay, true);
+    /**
+     * DB 반영에 실패한 조회수를 Redis 에 되돌림, 그 사이 증가한 조회수가 있으면 더해진다.
+     */
+    private void restoreViewCounts(final List<ViewDelta> viewDeltas, final RedisSerializer<Object> valueSerializer) {
+        List<String> keys = new ArrayList<>(viewDeltas.size() + 1);
+        List<Object> args = new ArrayList<>(viewDeltas.size() * 2);
+        keys.add(POST_UPDATE);
+        for (ViewDelta viewDelta : viewDeltas) {
+            String viewCountKey = VIEW_COUNT_PREFIX + viewDelta.postId();
+            keys.add(viewCountKey);
+            args.add(String.valueOf(viewDelta.count()).getBytes(StandardCharsets.UTF_8));
+            args.add(valueSerializer.serialize(viewCountKey));
+        }
+        redisTemplate.execute(VIEW_COUNT_RESTORE_SCRIPT, RedisSerializer.byteArray(), (RedisSerializer) RedisSerializer.byteArray(), keys, args.toArray());
     }
 
-    private void processDeleteFiles(final LocalDateTime deleteDay) {
-        List<PostAttachment> files = postAttachmentRepository.findAllByModifiedAtAndDisabled(deleteDay, true);
+    private List<Long> toPostIds(final List<Object> members) {
+        return members.stream()
+                      .map(Object::toString)
+                      .map(member -> Long.parseLong(member.substring(member.lastIndexOf(":") + 1)))
+                      .toList();
+    }
 
-        if(files.isEmpty()){
-            return;
+    /**
+     * 조회수 값 변환, INCR 로 증가한 값은 정수 문자열이고 직접 저장한 값은 직렬화된 값이다.
+     */
+    private long toCount(final byte[] value, final RedisSerializer<Object> valueSerializer) {
+        if (value == null)
+            return 0L;
+        try {
+            return Long.parseLong(new String(value, StandardCharsets.US_ASCII));
+        } catch (NumberFormatException e) {
+            Object deserialized = valueSerializer.deserialize(value);
+            return deserialized == null ? 0L : Long.parseLong(deserialized.toString());
         }
+    }
 
-        List<String> deleteFilePaths = new ArrayList<>();
-        List<Long> deleteFileIds = new ArrayList<>();
+    private void processDeletePosts(final LocalDateTime deleteDay, final JobPartition partition) {
+        purgeEngine.purge(POST_PURGE_TARGET, deleteDay, partition);
+    }
 
-        files.forEach(file -> {
-            deleteFileIds.add(file.getId());
-            deleteFilePaths.add("%s/%s".formatted(fileConfig.getBASE_DIR(), file.getStoreFilePath()));
-        });
+    private void processDeleteFiles(final LocalDateTime deleteDay, final JobPartition partition) {
+        PurgeTarget attachmentTarget = PurgeTarget.builder()
+                                                  .name("post-attachment")
+                                                  .table("tbl_post_attachments")
+                                                  .idColumn("attachment_id")
+                                                  .fileColumn("store_file_path")
+                                                  .fileHandler(files -> fileDeletePipeline.submit(
+                                                          files.stream()
+                                                               .map(file -> "%s/%s".formatted(fileConfig.getBASE_DIR(), file))
+                                                               .toList()))
+                                                  .build();
 
-        postAttachmentRepository.deleteByFileIdList(deleteFileIds);
-        fileService.deleteFiles(deleteFilePaths);
+        purgeEngine.purge(attachmentTarget, deleteDay, partition);
     }
 }
@@ -20,6 +20,17 @@ public @interface CustomCache {
 
     TimeUnit ttlUnit() default TimeUnit.MINUTES;
 
+    /**
+     * ttl 만료 후에도 stale 값을 제공하면서 비동기로 갱신하는 시간(ttlUnit), 0 이면 사용하지 않음 <br>
+     * 갱신은 별도 스레드에서 실행되므로(인증 정보만 복사) 요청 속성에 의존하는 메서드에는 사용하지 않는다.
+     */
+    long staleTtl() default 0;
+
+    /**
+     * 만료 전 확률적 조기 갱신(XFetch) 가중치, staleTtl 이 설정된 경우에만 적용되며 0 이면 사용하지 않음
+     */
+    double refreshBeta() default 1.0;
+
     boolean viewCount() default false;
 
     long viewCountTtl() default 5;
@@ -28,4 +39,41 @@ public @interface CustomCache {
 
     boolean history() default false;
 
+    /**
+     * 실시간 인기 순위 키(SpEL), 조회수가 증가하면 해당 Sorted Set 에서 id 값의 점수를 올린다(viewCount 필요)
+     * <p>
+     * ex) "'post:trending:groupid:' + #result.groupId"
+     */
+    String trending() default "";
+
+    /**
+     * 캐시 태그(SpEL), 메서드 파라미터(#파라미터명)와 반환값(#result)을 사용할 수 있다
+     * <p>
+     * ex) "'group:' + #groupId"
+     */
+    String[] tags() default {};
+
+    /**
+     * Redis(L2) 앞단에 JVM 로컬 캐시(L1)를 둘지 여부
+     */
+    boolean local() default false;
+
+    long localTtl() default 10;
+
+    TimeUnit localTtlUnit() default TimeUnit.SECONDS;
+
+    long localMaxSize() default 1000;
+
+    /**
+     * 캐시 미스 시 여러 노드 중 한 노드만 원본을 조회하도록 Redis 임대(lease)를 사용할지 여부
+     */
+    boolean lease() default false;
+
+    /**
+     * 임대 유지 시간이자 다른 호출이 로딩 결과를 기다리는 최대 시간
+     */
+    long leaseTime() default 3000;
+
+    TimeUnit leaseTimeUnit() default TimeUnit.MILLISECONDS;
+
 }
@@ -15,4 +15,9 @@ public @interface CustomCacheDelete {
 
     String id() default "";
 
+    /**
+     * 메서드 실행 후 삭제할 캐시 태그(SpEL), 메서드 파라미터(#파라미터명)와 반환값(#result)을 사용할 수 있다
+     */
+    String[] tags() default {};
+
 }
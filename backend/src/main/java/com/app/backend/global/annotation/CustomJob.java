@@ -0,0 +1,41 @@
+package com.app.backend.global.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 서버 중 한 곳에서만 실행되는 스케줄 작업
+ * <p>
+ * 같은 메서드의 @Scheduled 설정으로 실행 주기를 판단하며, 이번 주기에 이미 실행된 작업은 건너뛴다.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface CustomJob {
+
+    /**
+     * 작업 이름, 락/실행 기록 키에 사용
+     */
+    String name();
+
+    /**
+     * 작업을 나눌 파티션 수, 1 보다 크면 파티션마다 따로 락을 잡고 실행(JobPartition.current() 로 현재 파티션 확인)
+     */
+    int partitions() default 1;
+
+    /**
+     * 락 임대 시간, -1 이면 작업이 끝날 때까지 자동 연장
+     */
+    long leaseTime() default -1L;
+
+    TimeUnit timeUnit() default TimeUnit.MILLISECONDS;
+
+    /**
+     * 서버가 내려가 있는 동안 놓친 실행을 시작 시 한 번 실행할지 여부 <br>
+     * 실행 시점의 날짜로 대상을 정하는 작업(자정 초기화 등)은 다른 날 실행되면 잘못된 날짜를 처리하므로 false 로 지정
+     */
+    boolean catchUp() default true;
+
+}
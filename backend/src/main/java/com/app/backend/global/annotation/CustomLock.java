@@ -1,5 +1,7 @@
 package com.app.backend.global.annotation;
 
+import com.app.backend.global.util.LockUtil.LockType;
+import com.app.backend.global.util.LockUtil.WaitStrategy;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -10,7 +12,23 @@ import java.util.concurrent.TimeUnit;
 @Target(ElementType.METHOD)
 public @interface CustomLock {
 
-    String key();
+    /**
+     * 락 키 앞에 붙는 이름, 비어 있으면 메서드 이름을 사용(같은 prefix 를 쓰는 메서드끼리 락을 공유)
+     */
+    String prefix() default "";
+
+    String key() default "";
+
+    /**
+     * 여러 리소스를 함께 잠글 때 사용하는 키 목록, key 와 함께 정렬/중복 제거 후 순서대로 획득
+     */
+    String[] keys() default {};
+
+    /**
+     * EXCLUSIVE : 배타 락, READ : 공유 락(읽기끼리 동시 진행), WRITE : 배타 락(읽기/쓰기 모두 대기) <br>
+     * 같은 키에 READ 를 쓰는 곳이 있다면 배타 락은 EXCLUSIVE 대신 WRITE 를 사용해야 한다.
+     */
+    LockType type() default LockType.EXCLUSIVE;
 
     long maxWaitTime() default 1000L;
 
@@ -18,4 +36,15 @@ public @interface CustomLock {
 
     TimeUnit timeUnit() default TimeUnit.MILLISECONDS;
 
+    /**
+     * 락 대기 방식, BACKOFF 는 주기적으로 재시도하고 PUBSUB 은 락 해제 알림을 받아 바로 획득을 시도 <br>
+     * 경합이 잦은 락에만 PUBSUB 을 지정
+     */
+    WaitStrategy waitStrategy() default WaitStrategy.BACKOFF;
+
+    /**
+     * 공정 락 사용 여부, 대기 순서대로 락을 획득
+     */
+    boolean fair() default false;
+
 }
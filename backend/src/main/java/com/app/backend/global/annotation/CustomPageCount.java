@@ -0,0 +1,46 @@
+package com.app.backend.global.annotation;
+
+import com.app.backend.global.util.PageCounter.CountStrategy;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메서드 안에서 만드는 Page 의 전체 개수 계산 방식
+ * <p>
+ * 어떤 방식이든 마지막 페이지처럼 조회 결과만으로 전체 개수를 알 수 있으면 개수 조회를 하지 않는다.
+ * 애노테이션이 없으면 DERIVED 로 동작한다.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface CustomPageCount {
+
+    CountStrategy strategy() default CountStrategy.DERIVED;
+
+    /**
+     * CACHED : 캐시 키 prefix(count:{prefix}:...)
+     */
+    String prefix() default "";
+
+    /**
+     * CACHED : 검색 조건을 나타내는 SpEL 식, Pageable 은 제외
+     */
+    String key() default "";
+
+    /**
+     * CACHED : 캐시 태그 SpEL 식 목록, 쓰기 시 태그로 캐시 삭제
+     */
+    String[] tags() default {};
+
+    long ttl() default 60L;
+
+    TimeUnit ttlUnit() default TimeUnit.SECONDS;
+
+    /**
+     * APPROXIMATE : 최대 계산 개수, 결과가 더 많으면 이 값을 전체 개수로 사용
+     */
+    long limit() default 1000L;
+
+}
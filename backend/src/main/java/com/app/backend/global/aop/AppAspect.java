@@ -1,19 +1,30 @@
 package com.app.backend.global.aop;
 
+import com.app.backend.global.annotation.CustomJob;
 import com.app.backend.global.annotation.CustomLock;
+import com.app.backend.global.annotation.CustomPageCount;
 import com.app.backend.global.annotation.CustomPageJsonSerializer;
 import com.app.backend.global.dto.response.ApiResponse;
+import com.app.backend.global.util.FencingToken;
+import com.app.backend.global.util.JobRunner;
 import com.app.backend.global.util.LockKeyGenerator;
 import com.app.backend.global.util.LockManager;
 import com.app.backend.global.util.LockUtil.LockWrapper;
+import com.app.backend.global.util.MethodKeyPlan;
+import com.app.backend.global.util.PageCounter;
+import com.app.backend.global.util.PageCounter.CountContext;
 import com.app.backend.global.util.PageUtil;
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
@@ -57,28 +68,86 @@ public class AppAspect {
 
         @Around("@annotation(customLock)")
         public Object execute(ProceedingJoinPoint joinPoint, CustomLock customLock) throws Throwable {
-            String lockKey = LockKeyGenerator.generateLockKey(joinPoint, customLock.key());
-            LockWrapper lockWrapper = lockManager.acquireLock(lockKey,
-                                                              customLock.timeUnit().toMillis(customLock.maxWaitTime()),
-                                                              customLock.timeUnit().toMillis(customLock.leaseTime()));
-
-            if (!lockWrapper.isLocked())
-                throw new RuntimeException("Failed to acquire lock: " + lockKey);
+            List<String> lockKeys = LockKeyGenerator.generateLockKeys(joinPoint,
+                                                                      customLock.prefix(),
+                                                                      customLock.key(),
+                                                                      customLock.keys());
+            List<LockWrapper> lockWrappers = lockManager.acquireLocks(lockKeys,
+                                                                      customLock.timeUnit().toMillis(customLock.maxWaitTime()),
+                                                                      customLock.timeUnit().toMillis(customLock.leaseTime()),
+                                                                      customLock.waitStrategy(),
+                                                                      customLock.fair(),
+                                                                      customLock.type());
+
+            if (lockWrappers.isEmpty())
+                throw new RuntimeException("Failed to acquire lock: " + String.join(", ", lockKeys));
+
+            long fencingToken  = lockWrappers.stream().mapToLong(LockWrapper::getFencingToken).max().orElse(0L);
+            Long previousToken = fencingToken > 0 ? FencingToken.bind(fencingToken) : null;
 
             try {
                 Object result = joinPoint.proceed();
 
                 if (TransactionSynchronizationManager.isActualTransactionActive())
-                    lockManager.registerLockReleaseAfterTransaction(lockWrapper);
+                    lockManager.registerLockReleaseAfterTransaction(lockWrappers);
                 else
-                    lockManager.releaseLock(lockWrapper);
+                    lockManager.releaseLocks(lockWrappers);
 
                 return result;
             } catch (Throwable e) {
-                lockManager.releaseLock(lockWrapper);
+                lockManager.releaseLocks(lockWrappers);
                 throw e;
+            } finally {
+                if (fencingToken > 0)
+                    FencingToken.restore(previousToken);
             }
         }
     }
 
+    /**
+     * 작업 실행 여부는 트랜잭션 밖에서 결정해야 하므로 가장 바깥에서 실행
+     */
+    @Aspect
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @RequiredArgsConstructor
+    public static class JobAspect {
+
+        private final JobRunner jobRunner;
+
+        @Around("@annotation(customJob)")
+        public Object execute(ProceedingJoinPoint joinPoint, CustomJob customJob) throws Throwable {
+            Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+            jobRunner.run(jobRunner.register(method, customJob), joinPoint::proceed);
+            return null;
+        }
+    }
+
+    @Aspect
+    @RequiredArgsConstructor
+    public static class PageCountAspect {
+
+        private final PageCounter pageCounter;
+
+        @Around("@annotation(customPageCount)")
+        public Object execute(ProceedingJoinPoint joinPoint, CustomPageCount customPageCount) throws Throwable {
+            MethodKeyPlan plan = MethodKeyPlan.of(joinPoint);
+            Object[]      args = joinPoint.getArgs();
+
+            String key = customPageCount.key().isBlank()
+                         ? Arrays.deepToString(args)
+                         : String.valueOf(plan.evaluate(customPageCount.key(), args));
+            List<String> tags = Arrays.stream(customPageCount.tags())
+                                      .map(tag -> String.valueOf(plan.evaluate(tag, args)))
+                                      .toList();
+
+            CountContext context = new CountContext(customPageCount.strategy(),
+                                                    customPageCount.prefix(),
+                                                    key,
+                                                    tags,
+                                                    customPageCount.ttlUnit().toMillis(customPageCount.ttl()),
+                                                    customPageCount.limit());
+            return pageCounter.run(context, joinPoint::proceed);
+        }
+    }
+
 }
@@ -3,19 +3,36 @@ package com.app.backend.global.aop;
 import com.app.backend.domain.member.entity.MemberDetails;
 import com.app.backend.global.annotation.CustomCache;
 import com.app.backend.global.annotation.CustomCacheDelete;
+import com.app.backend.global.util.CacheEntry;
+import com.app.backend.global.util.CacheMetrics;
+import com.app.backend.global.util.CacheRefresher;
+import com.app.backend.global.util.CacheTagIndex;
+import com.app.backend.global.util.LocalCacheManager;
+import com.app.backend.global.util.MethodKeyPlan;
+import com.app.backend.global.util.RedisHealthMonitor;
+import com.app.backend.global.util.SingleFlight;
+import com.app.backend.global.util.TrendingIndex;
+import com.app.backend.global.util.ViewerStatistics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Aspect
@@ -26,100 +43,385 @@ public class CacheAspect {
     private static final String UPDATE_KEY = "update";
     private static final String HISTORY_KEY = "history";
     private static final String VIEW_COUNT_PREFIX = "viewCount";
+    private static final String LEASE_PREFIX = "lease";
+    private static final long LEASE_POLL_INTERVAL = 50L;
+    private static final byte[] FLAG_ON = "1".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] FLAG_OFF = "0".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * 조회수 중복 체크, 조회수 증가, 순 방문자 기록, 동기화/조회 기록 Set 추가, 캐시 조회를 한 번의 호출로 처리
+     * <p>
+     * 같은 구간의 중복 조회는 구간 비트맵에서 회원 ID 위치의 비트로 판별한다. 반환값은 {조회수 증가 여부, 캐시 값}이다.
+     * <p>
+     * KEYS : cacheKey, viewerKey, viewCountKey, updateKeyList, historyKey, uniqueViewerKey <br>
+     * ARGV : viewCount 여부, 구간 종료 시각(ms), history 여부, 캐시 조회 여부, viewCountKey, cacheKey, 회원 ID,
+     * 순 방문자 기록 TTL(ms)
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CACHE_READ_SCRIPT = new DefaultRedisScript<>("""
+            local counted = 0
+            if ARGV[1] == '1' then
+                if redis.call('SETBIT', KEYS[2], ARGV[7], 1) == 0 then
+                    counted = 1
+                    redis.call('PEXPIREAT', KEYS[2], ARGV[2])
+                    redis.call('INCR', KEYS[3])
+                    redis.call('SADD', KEYS[4], ARGV[5])
+                end
+                if redis.call('PFADD', KEYS[6], ARGV[7]) == 1 then
+                    redis.call('PEXPIRE', KEYS[6], ARGV[8])
+                end
+            end
+            if ARGV[3] == '1' then
+                redis.call('SADD', KEYS[5], ARGV[6])
+            end
+            if ARGV[4] == '1' then
+                return {counted, redis.call('GET', KEYS[1])}
+            end
+            return {counted}
+            """, List.class);
+
+    private static final RedisScript<Long> LEASE_RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final SingleFlight<Object> singleFlight = new SingleFlight<>();
+
     private final RedisTemplate<String, Object> redisTemplate;
+    private final LocalCacheManager             localCacheManager;
+    private final CacheRefresher                cacheRefresher;
+    private final CacheTagIndex                 cacheTagIndex;
+    private final CacheMetrics                  cacheMetrics;
+    private final RedisHealthMonitor            redisHealthMonitor;
+    private final TrendingIndex                 trendingIndex;
 
     @Around("@annotation(customCache)")
     public Object aroundG(ProceedingJoinPoint joinPoint, CustomCache customCache) throws Throwable {
-        String cacheKey = generateKey(customCache.prefix(), customCache.key(), customCache.id(), getParams(joinPoint));
-        String viewCountKey = VIEW_COUNT_PREFIX + ":" + cacheKey;
-        String limitUserKey = cacheKey + ":user:" + getUserID();
-        String updateKeyList = customCache.prefix() + ":" + UPDATE_KEY;
-        String historyKey = customCache.prefix() + ":" + HISTORY_KEY;
+        MethodKeyPlan plan = MethodKeyPlan.of(joinPoint);
+        String cacheKey = generateKey(customCache.prefix(), customCache.key(), customCache.id(), plan, joinPoint.getArgs());
 
-        Object result = null;
+        if (!redisHealthMonitor.isAvailable()) {
+            return bypass(joinPoint, customCache, cacheKey);
+        }
+
+        Object localData;
+        Object cachedData = null;
+        boolean counted = false;
 
         try {
-            // 조회수
-            if (customCache.viewCount() && !redisTemplate.hasKey(limitUserKey)) {
-                redisTemplate.opsForValue().increment(viewCountKey);
-                redisTemplate.opsForValue().set(limitUserKey, true, customCache.viewCountTtl(), customCache.viewCountTtlUnit());
+            // L1 캐시
+            localData = customCache.local() ? localCacheManager.get(customCache, cacheKey) : null;
 
-                redisTemplate.opsForSet().add(updateKeyList, viewCountKey);
+            if (localData == null || customCache.viewCount() || customCache.history()) {
+                ReadResult readResult = readThrough(customCache, cacheKey, localData == null);
+                cachedData = readResult.data();
+                counted = readResult.counted();
             }
+        } catch (Exception e) {
+            log.warn("Cache read failed, falling back to method call: {}", cacheKey, e);
+            recordError(customCache.prefix(), "read", e);
+            return joinPoint.proceed();
+        }
 
-            Object cachedData = redisTemplate.opsForValue().get(cacheKey);
+        if (localData != null) {
+            cacheMetrics.recordGet(customCache.prefix(), cacheKey, "l1_hit");
+            return recordTrending(customCache, cacheKey, plan, joinPoint.getArgs(), counted, localData);
+        }
 
-            // 조회 기록
-            if (customCache.history()) {
-                redisTemplate.opsForSet().add(historyKey, cacheKey);
+        if (cachedData instanceof CacheEntry cacheEntry) {
+            long now = System.currentTimeMillis();
+            if (cacheEntry.isStale(now) || cacheEntry.shouldRefreshEarly(customCache.refreshBeta(), now)) {
+                cacheRefresher.refresh(customCache.prefix(), cacheKey, () -> load(joinPoint, customCache, cacheKey));
             }
+            cachedData = cacheEntry.value();
+        }
 
-            if (cachedData != null) {
-                return cachedData;
+        if (cachedData != null) {
+            cacheMetrics.recordGet(customCache.prefix(), cacheKey, "hit");
+            if (customCache.local()) {
+                localCacheManager.put(customCache, cacheKey, cachedData);
             }
+            return recordTrending(customCache, cacheKey, plan, joinPoint.getArgs(), counted, cachedData);
+        }
 
-            result = joinPoint.proceed();
+        cacheMetrics.recordGet(customCache.prefix(), cacheKey, "miss");
 
-            redisTemplate.opsForValue().set(cacheKey, result, customCache.ttl(), customCache.ttlUnit());
+        // 같은 키의 동시 미스는 한 번만 로딩
+        Object result = singleFlight.execute(cacheKey,
+                customCache.leaseTimeUnit().toMillis(customCache.leaseTime()),
+                () -> load(joinPoint, customCache, cacheKey));
+        return recordTrending(customCache, cacheKey, plan, joinPoint.getArgs(), counted, result);
+    }
 
-            return result;
-        } catch (Exception e) {
+    @Around("@annotation(customCacheDelete)")
+    public Object aroundD(ProceedingJoinPoint joinPoint, CustomCacheDelete customCacheDelete) throws Throwable {
+        MethodKeyPlan plan = MethodKeyPlan.of(joinPoint);
+        String cacheKey = generateKey(customCacheDelete.prefix(), customCacheDelete.key(), customCacheDelete.id(), plan, joinPoint.getArgs());
+
+        if (!redisHealthMonitor.isAvailable()) {
+            localCacheManager.evictLocal(cacheKey);
             return joinPoint.proceed();
         }
+
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.delete(cacheKey))) {
+                cacheMetrics.recordEviction(customCacheDelete.prefix(), "key", 1);
+            }
+
+            localCacheManager.evict(cacheKey);
+        } catch (Exception e) {
+            log.warn("Cache delete failed: {}", cacheKey, e);
+            recordError(customCacheDelete.prefix(), "delete", e);
+        }
+
+        Object result = joinPoint.proceed();
+
+        if (customCacheDelete.tags().length > 0) {
+            try {
+                cacheTagIndex.evict(evaluateTags(customCacheDelete.tags(), plan, joinPoint.getArgs(), result));
+            } catch (Exception e) {
+                log.warn("Cache tag delete failed: {}", cacheKey, e);
+                recordError(customCacheDelete.prefix(), "delete", e);
+            }
+        }
+
+        return result;
     }
 
-    @Around("@annotation(customCacheDelete)")
-    public Object aroundD(ProceedingJoinPoint joinPoint, CustomCacheDelete customCacheDelete) throws Throwable {
-        String cacheKey = generateKey(customCacheDelete.prefix(), customCacheDelete.key(), customCacheDelete.id(), getParams(joinPoint));
+    /**
+     * Redis 서킷이 열린 동안에는 L1 캐시만 사용하고 원본 메서드를 호출
+     */
+    private Object bypass(final ProceedingJoinPoint joinPoint, final CustomCache customCache, final String cacheKey)
+            throws Throwable {
+        Object localData = customCache.local() ? localCacheManager.get(customCache, cacheKey) : null;
+        if (localData != null) {
+            cacheMetrics.recordGet(customCache.prefix(), cacheKey, "l1_hit");
+            return localData;
+        }
+
+        cacheMetrics.recordGet(customCache.prefix(), cacheKey, "bypass");
+        Object result = joinPoint.proceed();
+        if (customCache.local()) {
+            localCacheManager.put(customCache, cacheKey, result);
+        }
+        return result;
+    }
+
+    /**
+     * 원본 메서드 호출 후 캐시 저장
+     * <p>
+     * lease 설정 시 다른 노드가 이미 로딩 중이면 임대 시간 동안 캐시가 채워지기를 기다린다.
+     */
+    private Object load(final ProceedingJoinPoint joinPoint, final CustomCache customCache, final String cacheKey)
+            throws Throwable {
+        String leaseKey = LEASE_PREFIX + ":" + cacheKey;
+        String leaseToken = UUID.randomUUID().toString();
+        boolean useLease = customCache.lease() && redisHealthMonitor.isAvailable();
+        boolean leased = !useLease || acquireLease(customCache, leaseKey, leaseToken);
+
+        if (!leased) {
+            Object cachedData = awaitLeaseHolder(customCache, cacheKey);
+            if (cachedData != null) {
+                return cachedData instanceof CacheEntry cacheEntry ? cacheEntry.value() : cachedData;
+            }
+        }
 
         try {
+            long start = System.currentTimeMillis();
+            Object result = joinPoint.proceed();
+            long delta = System.currentTimeMillis() - start;
+            cacheMetrics.recordLoad(customCache.prefix(), delta);
+            store(customCache, cacheKey, result, delta, joinPoint);
+            return result;
+        } finally {
+            if (useLease && leased) {
+                releaseLease(leaseKey, leaseToken);
+            }
+        }
+    }
+
+    private void store(final CustomCache customCache,
+                       final String cacheKey,
+                       final Object result,
+                       final long delta,
+                       final ProceedingJoinPoint joinPoint) {
+        if (redisHealthMonitor.isAvailable()) {
+            try {
+                long ttl = customCache.ttlUnit().toMillis(customCache.ttl());
+                long staleTtl = customCache.ttlUnit().toMillis(customCache.staleTtl());
+
+                if (staleTtl > 0) {
+                    CacheEntry cacheEntry = new CacheEntry(result, System.currentTimeMillis() + ttl, delta);
+                    redisTemplate.opsForValue().set(cacheKey, cacheEntry, ttl + staleTtl, TimeUnit.MILLISECONDS);
+                } else {
+                    redisTemplate.opsForValue().set(cacheKey, result, ttl, TimeUnit.MILLISECONDS);
+                }
 
-            if (redisTemplate.hasKey(cacheKey)) {
-                redisTemplate.delete(cacheKey);
+                cacheTagIndex.tag(evaluateTags(customCache.tags(), MethodKeyPlan.of(joinPoint), joinPoint.getArgs(), result),
+                        cacheKey, ttl + staleTtl);
+            } catch (Exception e) {
+                log.warn("Cache write failed: {}", cacheKey, e);
+                recordError(customCache.prefix(), "write", e);
             }
+        }
 
-            return joinPoint.proceed();
+        if (customCache.local()) {
+            localCacheManager.put(customCache, cacheKey, result);
+        }
+    }
+
+    private boolean acquireLease(final CustomCache customCache, final String leaseKey, final String leaseToken) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(leaseKey, leaseToken,
+                    customCache.leaseTime(), customCache.leaseTimeUnit()));
         } catch (Exception e) {
-            return joinPoint.proceed();
+            return true;
         }
     }
 
-    private Long getUserID() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        MemberDetails memberDetails = (MemberDetails) authentication.getPrincipal();
-        return memberDetails.getId();
+    private void releaseLease(final String leaseKey, final String leaseToken) {
+        try {
+            redisTemplate.execute(LEASE_RELEASE_SCRIPT, List.of(leaseKey), leaseToken);
+        } catch (Exception e) {
+            log.warn("Cache lease release failed: {}", leaseKey, e);
+        }
+    }
+
+    private Object awaitLeaseHolder(final CustomCache customCache, final String cacheKey) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + customCache.leaseTimeUnit().toMillis(customCache.leaseTime());
+
+        while (System.currentTimeMillis() < deadline) {
+            Thread.sleep(LEASE_POLL_INTERVAL);
+            try {
+                Object cachedData = redisTemplate.opsForValue().get(cacheKey);
+                if (cachedData != null) {
+                    return cachedData;
+                }
+            } catch (Exception e) {
+                return null;
+            }
+        }
+        return null;
     }
 
-    private Map<String, Object> getParams(ProceedingJoinPoint joinPoint) {
-        MethodSignature methodSignature = (MethodSignature) joinPoint.getSignature();
-        String[] paramsName = methodSignature.getParameterNames();
-        Object[] args = joinPoint.getArgs();
+    /**
+     * 조회수/조회 기록 처리 및 L2 캐시 조회
+     *
+     * @param customCache - 캐시 설정
+     * @param cacheKey    - 캐시 키
+     * @param fetch       - 캐시 값 조회 여부
+     * @return 조회수 증가 여부와 캐시 값(없거나 조회하지 않은 경우 null)
+     */
+    @SuppressWarnings("unchecked")
+    private ReadResult readThrough(final CustomCache customCache, final String cacheKey, final boolean fetch) {
+        RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
 
-        Map<String, Object> params = new HashMap<>();
+        long now = System.currentTimeMillis();
+        long windowMillis = customCache.viewCountTtlUnit().toMillis(customCache.viewCountTtl());
+        String memberId = customCache.viewCount() ? String.valueOf(getUserID()) : "0";
 
-        for (int i = 0; i < paramsName.length; i++) {
-            params.put(paramsName[i], args[i]);
+        String viewCountKey = VIEW_COUNT_PREFIX + ":" + cacheKey;
+        String viewerKey = ViewerStatistics.viewerKey(cacheKey, windowMillis, now);
+        String updateKeyList = customCache.prefix() + ":" + UPDATE_KEY;
+        String historyKey = customCache.prefix() + ":" + HISTORY_KEY;
+        String uniqueViewerKey = ViewerStatistics.uniqueViewerKey(cacheKey, LocalDate.now());
+
+        List<Object> reply = redisTemplate.execute(CACHE_READ_SCRIPT,
+                RedisSerializer.byteArray(),
+                (RedisSerializer) RedisSerializer.byteArray(),
+                List.of(cacheKey, viewerKey, viewCountKey, updateKeyList, historyKey, uniqueViewerKey),
+                customCache.viewCount() ? FLAG_ON : FLAG_OFF,
+                toBytes(ViewerStatistics.windowEndAt(windowMillis, now)),
+                customCache.history() ? FLAG_ON : FLAG_OFF,
+                fetch ? FLAG_ON : FLAG_OFF,
+                valueSerializer.serialize(viewCountKey),
+                valueSerializer.serialize(cacheKey),
+                memberId.getBytes(StandardCharsets.UTF_8),
+                toBytes(ViewerStatistics.uniqueViewerTtlMillis()));
+
+        boolean counted = reply != null && Long.valueOf(1L).equals(reply.get(0));
+        byte[] cachedData = reply != null && reply.size() > 1 ? (byte[]) reply.get(1) : null;
+        if (cachedData == null) {
+            return new ReadResult(counted, null);
         }
 
-        return params;
+        cacheMetrics.recordPayload(customCache.prefix(), cachedData.length);
+        return new ReadResult(counted, valueSerializer.deserialize(cachedData));
     }
 
-    private String generateKey(String prefix, String key, String id, Map<String, Object> params) {
+    /**
+     * 조회수가 증가한 경우 인기 순위 점수 반영, 순위 키는 반환값으로 계산하므로 캐시 값을 얻은 뒤 처리
+     */
+    private Object recordTrending(final CustomCache customCache,
+                                  final String cacheKey,
+                                  final MethodKeyPlan plan,
+                                  final Object[] args,
+                                  final boolean counted,
+                                  final Object result) {
+        if (!counted || customCache.trending().isEmpty() || result == null) {
+            return result;
+        }
+
+        try {
+            int idIndex = customCache.id().isEmpty() ? -1 : plan.indexOf(customCache.id());
+            trendingIndex.record(String.valueOf(plan.evaluate(customCache.trending(), args, result)),
+                    idIndex >= 0 ? args[idIndex] : cacheKey);
+        } catch (Exception e) {
+            log.warn("Trending update failed: {}", cacheKey, e);
+            recordError(customCache.prefix(), "trending", e);
+        }
+        return result;
+    }
+
+    private void recordError(final String prefix, final String operation, final Exception e) {
+        cacheMetrics.recordError(prefix, operation);
+        if (e instanceof DataAccessException) {
+            redisHealthMonitor.recordFailure();
+        }
+    }
+
+    private byte[] toBytes(final long value) {
+        return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private List<String> evaluateTags(final String[] tags, final MethodKeyPlan plan, final Object[] args, final Object result) {
+        if (tags.length == 0) {
+            return List.of();
+        }
+
+        return Arrays.stream(tags)
+                .map(tag -> String.valueOf(plan.evaluate(tag, args, result)))
+                .toList();
+    }
+
+    private Long getUserID() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        MemberDetails memberDetails = (MemberDetails) authentication.getPrincipal();
+        return memberDetails.getId();
+    }
+
+    private String generateKey(String prefix, String key, String id, MethodKeyPlan plan, Object[] args) {
         StringBuilder newKey = new StringBuilder(prefix);
 
         if (!key.isEmpty()) {
             newKey.append(":").append(key);
         }
 
-        if (!id.isEmpty() && params.containsKey(id)) {
-            newKey.append(":").append(params.get(id));
+        int idIndex = id.isEmpty() ? -1 : plan.indexOf(id);
+        if (idIndex >= 0) {
+            newKey.append(":").append(args[idIndex]);
             return newKey.toString();
         }
 
-        for (Map.Entry<String, Object> entry : params.entrySet()) {
-            newKey.append(":").append(entry.getValue().toString());
+        for (Object arg : args) {
+            newKey.append(":").append(arg);
         }
 
         return newKey.toString();
     }
+
+    private record ReadResult(boolean counted, Object data) {
+    }
 }
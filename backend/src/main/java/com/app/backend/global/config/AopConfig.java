@@ -1,8 +1,12 @@
 package com.app.backend.global.config;
 
+import com.app.backend.global.aop.AppAspect.JobAspect;
 import com.app.backend.global.aop.AppAspect.LockAspect;
+import com.app.backend.global.aop.AppAspect.PageCountAspect;
 import com.app.backend.global.aop.AppAspect.PageJsonSerializerAspect;
+import com.app.backend.global.util.JobRunner;
 import com.app.backend.global.util.LockManager;
+import com.app.backend.global.util.PageCounter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -19,4 +23,14 @@ public class AopConfig {
         return new LockAspect(lockManager);
     }
 
+    @Bean
+    public JobAspect jobAspect(final JobRunner jobRunner) {
+        return new JobAspect(jobRunner);
+    }
+
+    @Bean
+    public PageCountAspect pageCountAspect(final PageCounter pageCounter) {
+        return new PageCountAspect(pageCounter);
+    }
+
 }
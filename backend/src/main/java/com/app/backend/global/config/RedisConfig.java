@@ -1,13 +1,24 @@
 package com.app.backend.global.config;
 
+import com.app.backend.domain.post.dto.resp.PostAttachmentRespDto;
+import com.app.backend.domain.post.dto.resp.PostRespDto;
+import com.app.backend.global.util.CacheEntry;
+import com.app.backend.global.util.CompactRedisSerializer;
+import com.app.backend.global.util.LocalCacheManager;
+import com.app.backend.global.util.TypeAliasIdResolver;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.TypeResolverBuilder;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
 import org.redisson.config.Config;
@@ -18,8 +29,11 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -31,6 +45,20 @@ public class RedisConfig {
     private int    port;
     @Value("${spring.data.redis.password}")
     private String password;
+    @Value("${spring.data.redis.value-format:json}")
+    private String valueFormat;
+    @Value("${spring.data.redis.compress-threshold:1024}")
+    private int    compressThreshold;
+
+    private static final Map<Class<?>, String> CACHE_TYPE_ALIASES = Map.of(
+            CacheEntry.class, "ce",
+            ArrayList.class, "al",
+            List.of().getClass(), "il",
+            PostRespDto.GetPostDto.class, "pd",
+            PostRespDto.GetPostListDto.class, "pl",
+            PostAttachmentRespDto.GetPostImageDto.class, "pi",
+            PostAttachmentRespDto.GetPostDocumentDto.class, "pc"
+    );
 
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
@@ -41,21 +69,64 @@ public class RedisConfig {
 
     @Bean
     public RedisTemplate<String, Object> redisTemplate() {
-        ObjectMapper mapper = new ObjectMapper();
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(redisConnectionFactory());
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(redisValueSerializer());
+        return template;
+    }
+
+    /**
+     * Redis 값 직렬화 방식
+     * <p>
+     * json : 클래스명을 포함한 JSON <br>
+     * compact : 등록된 타입 별칭을 사용하는 Smile(바이너리 JSON), 일정 크기 이상은 압축. 기존 JSON 값도 읽을 수 있다.
+     */
+    private RedisSerializer<Object> redisValueSerializer() {
+        GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer(jsonMapper());
+        if (!"compact".equalsIgnoreCase(valueFormat))
+            return jsonSerializer;
+        return new CompactRedisSerializer(smileMapper(), jsonSerializer, compressThreshold);
+    }
+
+    private ObjectMapper jsonMapper() {
+        ObjectMapper mapper = registerModules(new ObjectMapper());
+        mapper.activateDefaultTyping(polymorphicTypeValidator(), ObjectMapper.DefaultTyping.EVERYTHING,
+                                     JsonTypeInfo.As.PROPERTY);
+        return mapper;
+    }
+
+    private ObjectMapper smileMapper() {
+        ObjectMapper mapper = registerModules(new ObjectMapper(new SmileFactory()));
+        PolymorphicTypeValidator ptv = polymorphicTypeValidator();
+        TypeResolverBuilder<?> typer =
+                new ObjectMapper.DefaultTypeResolverBuilder(ObjectMapper.DefaultTyping.EVERYTHING, ptv)
+                        .init(JsonTypeInfo.Id.CUSTOM, new TypeAliasIdResolver(mapper.getTypeFactory(), ptv, CACHE_TYPE_ALIASES))
+                        .inclusion(JsonTypeInfo.As.PROPERTY)
+                        .typeProperty("@t");
+        mapper.setDefaultTyping(typer);
+        return mapper;
+    }
+
+    private ObjectMapper registerModules(final ObjectMapper mapper) {
         mapper.registerModule(new ParameterNamesModule(JsonCreator.Mode.PROPERTIES));
         mapper.registerModule(new Jdk8Module());
         mapper.registerModule(new JavaTimeModule());
+        return mapper;
+    }
 
-        PolymorphicTypeValidator ptv = BasicPolymorphicTypeValidator.builder()
-                                                                    .allowIfBaseType(Object.class)
-                                                                    .build();
-        mapper.activateDefaultTyping(ptv, ObjectMapper.DefaultTyping.EVERYTHING, JsonTypeInfo.As.PROPERTY);
+    private PolymorphicTypeValidator polymorphicTypeValidator() {
+        return BasicPolymorphicTypeValidator.builder()
+                                            .allowIfBaseType(Object.class)
+                                            .build();
+    }
 
-        RedisTemplate<String, Object> template = new RedisTemplate<>();
-        template.setConnectionFactory(redisConnectionFactory());
-        template.setKeySerializer(new StringRedisSerializer());
-        template.setValueSerializer(new GenericJackson2JsonRedisSerializer(mapper));
-        return template;
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(final LocalCacheManager localCacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        container.addMessageListener(localCacheManager, new ChannelTopic(LocalCacheManager.INVALIDATION_CHANNEL));
+        return container;
     }
 
     @Bean
@@ -0,0 +1,40 @@
+package com.app.backend.global.dto.response;
+
+import com.app.backend.global.util.PageCursor;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이징 응답, 전체 개수 대신 다음 페이지 존재 여부만 제공
+ *
+ * @param content    - 페이지 내용
+ * @param nextCursor - 다음 페이지 커서, 마지막 페이지면 null
+ * @param hasNext    - 다음 페이지 존재 여부
+ */
+public record CursorPage<T>(List<T> content, String nextCursor, boolean hasNext) {
+
+    /**
+     * size + 1 개를 조회한 결과로 페이지 생성
+     *
+     * @param rows     - 조회 결과(최대 size + 1 개)
+     * @param size     - 페이지 크기
+     * @param cursorOf - 행의 커서
+     * @param mapper   - 응답 변환
+     */
+    public static <E, T> CursorPage<T> of(final List<E> rows,
+                                          final int size,
+                                          final Function<E, PageCursor> cursorOf,
+                                          final Function<E, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> content = hasNext ? rows.subList(0, size) : rows;
+
+        return new CursorPage<>(content.stream().map(mapper).toList(),
+                                hasNext ? cursorOf.apply(content.get(content.size() - 1)).encode() : null,
+                                hasNext);
+    }
+
+    public <R> CursorPage<R> map(final Function<T, R> mapper) {
+        return new CursorPage<>(content.stream().map(mapper).toList(), nextCursor, hasNext);
+    }
+
+}
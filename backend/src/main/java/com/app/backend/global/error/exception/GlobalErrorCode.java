@@ -13,7 +13,8 @@ public enum GlobalErrorCode implements DomainErrorCode {
     METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED, "GL002", "올바르지 않은 HTTP 메서드"),
     ENTITY_NOT_FOUND(HttpStatus.NOT_FOUND, "GL003", "값을 찾지 못함"),
     HANDLE_ACCESS_DENIED(HttpStatus.FORBIDDEN, "GL004", "요청이 거부됨"),
-    INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "GL005", "서버 내부 오류 발생");
+    INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "GL005", "서버 내부 오류 발생"),
+    STALE_LOCK_TOKEN(HttpStatus.CONFLICT, "GL006", "락이 만료되어 요청이 거부됨");
 
     private final HttpStatus status;
     private final String     code;
@@ -0,0 +1,31 @@
+package com.app.backend.global.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * staleTtl 이 설정된 캐시 값을 Redis 에 저장할 때 사용하는 래퍼
+ *
+ * @param value    - 캐시 값
+ * @param expireAt - 논리적 만료 시각(ms), 이후에는 stale 값으로 취급
+ * @param delta    - 원본 조회에 걸린 시간(ms)
+ */
+public record CacheEntry(Object value, long expireAt, long delta) {
+
+    public boolean isStale(final long now) {
+        return now >= expireAt;
+    }
+
+    /**
+     * XFetch 조기 갱신 여부, 로딩 시간이 길고 만료가 가까울수록 갱신 확률이 높아진다
+     *
+     * @param beta - 조기 갱신 가중치, 0 이하면 조기 갱신하지 않음
+     * @param now  - 현재 시각(ms)
+     */
+    public boolean shouldRefreshEarly(final double beta, final long now) {
+        if (beta <= 0)
+            return false;
+        double random = ThreadLocalRandom.current().nextDouble(Double.MIN_VALUE, 1.0);
+        return now - delta * beta * Math.log(random) >= expireAt;
+    }
+
+}
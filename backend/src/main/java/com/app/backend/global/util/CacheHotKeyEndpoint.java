@@ -0,0 +1,27 @@
+package com.app.backend.global.util;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 조회가 많은 캐시 키 목록(/actuator/cachehotkeys)
+ */
+@Component
+@Endpoint(id = "cachehotkeys")
+@RequiredArgsConstructor
+public class CacheHotKeyEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final CacheMetrics cacheMetrics;
+
+    @ReadOperation
+    public List<CacheMetrics.HotKey> hotKeys(@Nullable final Integer limit) {
+        return cacheMetrics.hotKeys(limit == null || limit <= 0 ? DEFAULT_LIMIT : limit);
+    }
+
+}
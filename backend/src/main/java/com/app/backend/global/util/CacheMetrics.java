@@ -0,0 +1,106 @@
+package com.app.backend.global.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * CustomCache 메트릭 기록
+ * <p>
+ * 모든 메트릭은 캐시 prefix 로 태그되며, 키별 조회 횟수는 최대 크기가 정해진 Caffeine 캐시에 보관한다(조회가 뜸한 키부터 제거).
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheMetrics {
+
+    private static final long HOT_KEY_CAPACITY = 10_000;
+
+    private final Cache<String, LongAdder> keyHits = Caffeine.newBuilder()
+                                                             .maximumSize(HOT_KEY_CAPACITY)
+                                                             .expireAfterAccess(Duration.ofMinutes(10))
+                                                             .build();
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 캐시 조회 결과 기록
+     *
+     * @param prefix   - 캐시 prefix
+     * @param cacheKey - 캐시 키
+     * @param result   - l1_hit, hit, miss
+     */
+    public void recordGet(final String prefix, final String cacheKey, final String result) {
+        Counter.builder("cache.gets")
+               .tag("prefix", prefix)
+               .tag("result", result)
+               .register(meterRegistry)
+               .increment();
+        keyHits.get(cacheKey, key -> new LongAdder()).increment();
+    }
+
+    public void recordLoad(final String prefix, final long elapsedMillis) {
+        Timer.builder("cache.load")
+             .tag("prefix", prefix)
+             .register(meterRegistry)
+             .record(elapsedMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void recordPayload(final String prefix, final int bytes) {
+        DistributionSummary.builder("cache.payload.size")
+                           .baseUnit("bytes")
+                           .tag("prefix", prefix)
+                           .register(meterRegistry)
+                           .record(bytes);
+    }
+
+    /**
+     * @param operation - read, write, delete
+     */
+    public void recordError(final String prefix, final String operation) {
+        Counter.builder("cache.errors")
+               .tag("prefix", prefix)
+               .tag("operation", operation)
+               .register(meterRegistry)
+               .increment();
+    }
+
+    /**
+     * @param cause - key, tag
+     */
+    public void recordEviction(final String prefix, final String cause, final int count) {
+        Counter.builder("cache.evictions")
+               .tag("prefix", prefix)
+               .tag("cause", cause)
+               .register(meterRegistry)
+               .increment(count);
+    }
+
+    /**
+     * 조회 횟수가 많은 순서로 키 목록 반환
+     *
+     * @param limit - 최대 개수
+     */
+    public List<HotKey> hotKeys(final int limit) {
+        return keyHits.asMap()
+                      .entrySet()
+                      .stream()
+                      .map(entry -> new HotKey(entry.getKey(), entry.getValue().sum()))
+                      .sorted(Comparator.comparingLong(HotKey::hits).reversed())
+                      .limit(limit)
+                      .toList();
+    }
+
+    public record HotKey(String key, long hits) {
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.app.backend.global.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * stale-while-revalidate 캐시 비동기 갱신
+ * <p>
+ * 고정 크기 스레드 풀과 대기열을 사용하며, 대기열이 가득 차면 갱신을 건너뛴다(stale 값은 계속 제공).
+ * 노드 내에서 같은 키는 동시에 한 번만 갱신한다. <br>
+ * 갱신은 요청한 스레드의 인증 정보(SecurityContext)와 Locale 을 복사해 읽기 전용 트랜잭션 안에서 실행한다.
+ * 요청이 끝난 뒤 실행될 수 있으므로 요청 속성(RequestContextHolder)은 넘기지 않으며, 요청 속성에 의존하는 메서드에는 staleTtl 을 사용하지 않는다.
+ */
+@Slf4j
+@Component
+public class CacheRefresher {
+
+    private static final int CORE_POOL_SIZE = 2;
+    private static final int MAX_POOL_SIZE  = 4;
+    private static final int QUEUE_CAPACITY = 100;
+
+    private final Set<String>         refreshingKeys = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor  executor;
+    private final MeterRegistry       meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    public CacheRefresher(final MeterRegistry meterRegistry, final PlatformTransactionManager transactionManager) {
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(CORE_POOL_SIZE, MAX_POOL_SIZE, 60L, TimeUnit.SECONDS,
+                                               new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                                               runnable -> {
+                                                   Thread thread = new Thread(runnable, "cache-refresh-"
+                                                                                        + threadNumber.incrementAndGet());
+                                                   thread.setDaemon(true);
+                                                   return thread;
+                                               },
+                                               new ThreadPoolExecutor.AbortPolicy());
+
+        meterRegistry.gauge("cache.refresh.queue", executor, e -> e.getQueue().size());
+    }
+
+    /**
+     * 캐시 갱신 예약
+     *
+     * @param prefix   - 메트릭 태그로 사용할 캐시 prefix
+     * @param cacheKey - 캐시 키
+     * @param loader   - 원본 조회 및 캐시 저장
+     */
+    public void refresh(final String prefix, final String cacheKey, final SingleFlight.Loader<Object> loader) {
+        if (!refreshingKeys.add(cacheKey))
+            return;
+
+        SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+        securityContext.setAuthentication(SecurityContextHolder.getContext().getAuthentication());
+        LocaleContext localeContext = LocaleContextHolder.getLocaleContext();
+
+        try {
+            executor.execute(new DelegatingSecurityContextRunnable(() -> {
+                Timer.Sample sample = Timer.start(meterRegistry);
+                LocaleContextHolder.setLocaleContext(localeContext);
+                try {
+                    transactionTemplate.execute(status -> {
+                        try {
+                            return loader.load();
+                        } catch (RuntimeException | Error e) {
+                            throw e;
+                        } catch (Throwable e) {
+                            throw new UndeclaredThrowableException(e);
+                        }
+                    });
+                    count(prefix, "success");
+                } catch (Throwable e) {
+                    log.warn("Cache refresh failed: {}", cacheKey, e);
+                    count(prefix, "failure");
+                } finally {
+                    LocaleContextHolder.resetLocaleContext();
+                    sample.stop(Timer.builder("cache.refresh.duration")
+                                     .tag("prefix", prefix)
+                                     .register(meterRegistry));
+                    refreshingKeys.remove(cacheKey);
+                }
+            }, securityContext));
+            count(prefix, "scheduled");
+        } catch (RejectedExecutionException e) {
+            refreshingKeys.remove(cacheKey);
+            count(prefix, "rejected");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void count(final String prefix, final String result) {
+        Counter.builder("cache.refresh")
+               .tag("prefix", prefix)
+               .tag("result", result)
+               .register(meterRegistry)
+               .increment();
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.app.backend.global.util;
+
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 캐시 태그 인덱스
+ * <p>
+ * 태그마다 Redis Set(tag:{태그})에 캐시 키를 모아두고, 태그 단위로 캐시를 한 번에 삭제한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheTagIndex {
+
+    private static final String TAG_PREFIX = "tag:";
+
+    /**
+     * KEYS : 태그 Set 키 목록 <br>
+     * ARGV : 캐시 키, 캐시 TTL(ms)
+     */
+    private static final RedisScript<Long> TAG_SCRIPT = new DefaultRedisScript<>("""
+            for _, tagKey in ipairs(KEYS) do
+                redis.call('SADD', tagKey, ARGV[1])
+                if redis.call('PTTL', tagKey) < tonumber(ARGV[2]) then
+                    redis.call('PEXPIRE', tagKey, ARGV[2])
+                end
+            end
+            return #KEYS
+            """, Long.class);
+
+    /**
+     * KEYS : 태그 Set 키 목록 <br>
+     * 반환 : 삭제된 캐시 키 목록
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            local evicted = {}
+            for _, tagKey in ipairs(KEYS) do
+                for _, cacheKey in ipairs(redis.call('SMEMBERS', tagKey)) do
+                    redis.call('DEL', cacheKey)
+                    evicted[#evicted + 1] = cacheKey
+                end
+                redis.call('DEL', tagKey)
+            end
+            return evicted
+            """, List.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final LocalCacheManager             localCacheManager;
+    private final CacheMetrics                  cacheMetrics;
+
+    /**
+     * 캐시 키를 태그 Set 에 등록, 태그 Set 의 만료 시간은 등록된 캐시 중 가장 긴 TTL 로 유지
+     *
+     * @param tags      - 태그 목록
+     * @param cacheKey  - 캐시 키
+     * @param ttlMillis - 캐시 TTL(ms)
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void tag(final Collection<String> tags, final String cacheKey, final long ttlMillis) {
+        if (tags.isEmpty())
+            return;
+        redisTemplate.execute(TAG_SCRIPT,
+                              RedisSerializer.string(),
+                              (RedisSerializer) RedisSerializer.string(),
+                              toTagKeys(tags),
+                              cacheKey,
+                              String.valueOf(ttlMillis));
+    }
+
+    /**
+     * 태그가 달린 모든 캐시 삭제, 트랜잭션이 진행 중이면 커밋 이후에 삭제
+     *
+     * @param tags - 태그 목록
+     */
+    public void evict(final Collection<String> tags) {
+        if (tags.isEmpty())
+            return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(tags);
+                }
+            });
+        else
+            evictNow(tags);
+    }
+
+    public void evict(final String... tags) {
+        evict(List.of(tags));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void evictNow(final Collection<String> tags) {
+        try {
+            List<String> evicted = (List<String>) redisTemplate.execute(EVICT_SCRIPT,
+                                                                        RedisSerializer.string(),
+                                                                        (RedisSerializer) RedisSerializer.string(),
+                                                                        toTagKeys(tags));
+            if (evicted != null)
+                evicted.forEach(cacheKey -> {
+                    localCacheManager.evict(cacheKey);
+                    cacheMetrics.recordEviction(prefixOf(cacheKey), "tag", 1);
+                });
+        } catch (Exception e) {
+            log.warn("Cache tag eviction failed: {}", tags, e);
+        }
+    }
+
+    private String prefixOf(final String cacheKey) {
+        int index = cacheKey.indexOf(':');
+        return index < 0 ? cacheKey : cacheKey.substring(0, index);
+    }
+
+    private List<String> toTagKeys(final Collection<String> tags) {
+        return tags.stream().map(tag -> TAG_PREFIX + tag).toList();
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.app.backend.global.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Smile(바이너리 JSON) 기반 Redis 값 직렬화
+ * <p>
+ * 첫 바이트로 형식을 구분하며(0x01: Smile, 0x02: Deflate 압축된 Smile), 이 헤더가 없는 값은 기존 JSON 직렬화로 읽는다.
+ * 문자열, 숫자, Boolean 은 Set 멤버나 Lua 스크립트 인자로도 쓰이므로 형식과 관계없이 기존 JSON 으로 기록한다.
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    private static final byte FORMAT_SMILE   = 0x01;
+    private static final byte FORMAT_DEFLATE = 0x02;
+
+    private final ObjectMapper            smileMapper;
+    private final RedisSerializer<Object> legacySerializer;
+    private final int                     compressThreshold;
+
+    public CompactRedisSerializer(final ObjectMapper smileMapper,
+                                  final RedisSerializer<Object> legacySerializer,
+                                  final int compressThreshold) {
+        this.smileMapper = smileMapper;
+        this.legacySerializer = legacySerializer;
+        this.compressThreshold = compressThreshold;
+    }
+
+    @Override
+    public byte[] serialize(final Object value) throws SerializationException {
+        if (value == null)
+            return new byte[0];
+
+        if (value instanceof CharSequence || value instanceof Number || value instanceof Boolean)
+            return legacySerializer.serialize(value);
+
+        try {
+            byte[] payload = smileMapper.writeValueAsBytes(value);
+            if (payload.length >= compressThreshold)
+                return withHeader(FORMAT_DEFLATE, deflate(payload));
+            return withHeader(FORMAT_SMILE, payload);
+        } catch (IOException e) {
+            throw new SerializationException("Could not write compact value", e);
+        }
+    }
+
+    @Override
+    public Object deserialize(final byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0)
+            return null;
+
+        try {
+            return switch (bytes[0]) {
+                case FORMAT_SMILE -> smileMapper.readValue(bytes, 1, bytes.length - 1, Object.class);
+                case FORMAT_DEFLATE -> smileMapper.readValue(inflate(bytes, 1), Object.class);
+                default -> legacySerializer.deserialize(bytes);
+            };
+        } catch (IOException | DataFormatException e) {
+            throw new SerializationException("Could not read compact value", e);
+        }
+    }
+
+    private byte[] withHeader(final byte format, final byte[] payload) {
+        byte[] bytes = new byte[payload.length + 1];
+        bytes[0] = format;
+        System.arraycopy(payload, 0, bytes, 1, payload.length);
+        return bytes;
+    }
+
+    private byte[] deflate(final byte[] payload) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(payload);
+            deflater.finish();
+
+            ByteArrayOutputStream out    = new ByteArrayOutputStream(payload.length / 2);
+            byte[]                buffer = new byte[4096];
+            while (!deflater.finished())
+                out.write(buffer, 0, deflater.deflate(buffer));
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private byte[] inflate(final byte[] bytes, final int offset) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes, offset, bytes.length - offset);
+
+            ByteArrayOutputStream out    = new ByteArrayOutputStream(bytes.length * 3);
+            byte[]                buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary()))
+                    throw new DataFormatException("Truncated compact value");
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } finally {
+            inflater.end();
+        }
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.app.backend.global.util;
+
+import com.app.backend.global.error.exception.DomainException;
+import com.app.backend.global.error.exception.GlobalErrorCode;
+import java.util.OptionalLong;
+import java.util.function.LongToIntFunction;
+
+/**
+ * 현재 스레드가 보유한 분산 락의 펜싱 토큰
+ * <p>
+ * 토큰은 락을 획득할 때마다 증가하는 값으로, 락 임대 시간이 지난 뒤 늦게 도착한 쓰기를 DB 에서 거부하는 데 사용한다.
+ * 쓰기 전에 "저장된 토큰 <= 현재 토큰" 조건으로 토큰을 갱신하고, 갱신된 행이 없으면 더 최신 락 보유자가 이미 쓴 것으로 판단한다.
+ */
+public final class FencingToken {
+
+    private static final ThreadLocal<Long> CURRENT = new ThreadLocal<>();
+
+    private FencingToken() {
+    }
+
+    /**
+     * 현재 스레드에 토큰 설정
+     *
+     * @return 이전 토큰(중첩 호출 후 복원용), 없으면 null
+     */
+    public static Long bind(final long token) {
+        Long previous = CURRENT.get();
+        CURRENT.set(token);
+        return previous;
+    }
+
+    public static void restore(final Long previous) {
+        if (previous == null)
+            CURRENT.remove();
+        else
+            CURRENT.set(previous);
+    }
+
+    public static OptionalLong current() {
+        Long token = CURRENT.get();
+        return token == null ? OptionalLong.empty() : OptionalLong.of(token);
+    }
+
+    /**
+     * 현재 토큰으로 조건부 갱신 실행, 토큰이 없으면(로컬 락 등) 검사하지 않음
+     *
+     * @param fencedUpdate - 토큰을 받아 "저장된 토큰 <= 토큰" 조건으로 갱신하고 갱신된 행 수를 반환
+     * @throws DomainException 더 최신 토큰으로 이미 갱신된 경우
+     */
+    public static void verify(final LongToIntFunction fencedUpdate) {
+        OptionalLong token = current();
+        if (token.isPresent() && fencedUpdate.applyAsInt(token.getAsLong()) == 0)
+            throw new DomainException(GlobalErrorCode.STALE_LOCK_TOKEN);
+    }
+
+}
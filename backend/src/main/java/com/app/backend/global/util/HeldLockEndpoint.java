@@ -0,0 +1,37 @@
+package com.app.backend.global.util;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 현재 노드가 보유 중인 락 목록(/actuator/heldlocks)
+ */
+@Component
+@Endpoint(id = "heldlocks")
+@RequiredArgsConstructor
+public class HeldLockEndpoint {
+
+    private final LockMetrics lockMetrics;
+
+    @ReadOperation
+    public List<HeldLockView> heldLocks() {
+        long now = System.currentTimeMillis();
+        return lockMetrics.heldLocks()
+                          .stream()
+                          .map(heldLock -> new HeldLockView(heldLock.lockKey(),
+                                                            heldLock.mode(),
+                                                            heldLock.thread(),
+                                                            now - heldLock.acquiredAt()))
+                          .toList();
+    }
+
+    /**
+     * 응답용 보유 락, 획득 시각 대신 보유 시간(ms)
+     */
+    public record HeldLockView(String lockKey, String mode, String thread, long heldMillis) {
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.app.backend.global.util;
+
+import java.util.Comparator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스케줄 작업 목록 및 실행 기록(/actuator/jobs, /actuator/jobs/{name})
+ */
+@Component
+@Endpoint(id = "jobs")
+@RequiredArgsConstructor
+public class JobEndpoint {
+
+    private static final int HISTORY_LIMIT = 20;
+
+    private final JobRunner jobRunner;
+
+    @ReadOperation
+    public List<Job> jobs() {
+        return jobRunner.jobs()
+                        .stream()
+                        .sorted(Comparator.comparing(JobRunner.Job::name))
+                        .map(job -> new Job(job.name(),
+                                            job.partitions(),
+                                            job.schedule().cron() == null ? null : job.schedule().cron().toString(),
+                                            job.schedule().periodMillis()))
+                        .toList();
+    }
+
+    @ReadOperation
+    public List<JobRunner.JobRun> history(@Selector final String name) {
+        return jobRunner.history(name, HISTORY_LIMIT);
+    }
+
+    public record Job(String name, int partitions, String cron, long periodMillis) {
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.app.backend.global.util;
+
+/**
+ * 현재 스레드에서 실행 중인 작업 파티션
+ * <p>
+ * 파티션이 나뉜 작업은 ID % count == index 인 데이터만 처리한다.
+ *
+ * @param index - 파티션 번호(0 부터)
+ * @param count - 전체 파티션 수
+ */
+public record JobPartition(int index, int count) {
+
+    public static final JobPartition SINGLE = new JobPartition(0, 1);
+
+    private static final ThreadLocal<JobPartition> CURRENT = new ThreadLocal<>();
+
+    public static JobPartition current() {
+        JobPartition partition = CURRENT.get();
+        return partition == null ? SINGLE : partition;
+    }
+
+    static JobPartition bind(final JobPartition partition) {
+        JobPartition previous = CURRENT.get();
+        CURRENT.set(partition);
+        return previous;
+    }
+
+    static void restore(final JobPartition previous) {
+        if (previous == null)
+            CURRENT.remove();
+        else
+            CURRENT.set(previous);
+    }
+
+    public boolean isPartitioned() {
+        return count > 1;
+    }
+
+    public boolean contains(final long id) {
+        return Math.floorMod(id, count) == index;
+    }
+
+}
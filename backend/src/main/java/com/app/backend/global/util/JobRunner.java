@@ -0,0 +1,286 @@
+package com.app.backend.global.util;
+
+import com.app.backend.global.annotation.CustomJob;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * 여러 서버에서 동시에 트리거되는 스케줄 작업을 한 곳에서만 실행
+ * <p>
+ * 파티션마다 Redisson 락(job:{name}:{partition})을 대기 없이 시도하고, 락을 잡은 서버는 마지막 성공 기록을 확인해
+ * 이번 주기에 이미 실행된 파티션이면 건너뛴다. 파티션은 서버마다 임의의 순서로 시도하므로 여러 서버에 나뉘어 실행된다. <br>
+ * 실행 기록은 job:{name}:history 에 최근 100건을 남기고, 서버 시작 시 놓친 실행이 있으면 한 번 실행한다.
+ */
+@Slf4j
+@Component
+public class JobRunner {
+
+    private static final String KEY_PREFIX   = "job:";
+    private static final int    HISTORY_SIZE = 100;
+    private static final long   RECORD_TTL   = TimeUnit.DAYS.toMillis(30);
+
+    private final RedissonClient                redissonClient;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisHealthMonitor            redisHealthMonitor;
+    private final MeterRegistry                 meterRegistry;
+    private final ApplicationContext            applicationContext;
+    private final Environment                   environment;
+
+    private final boolean catchUpEnabled;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private final ExecutorService  catchUpExecutor;
+    private final String           node;
+
+    public JobRunner(final RedissonClient redissonClient,
+                     final RedisTemplate<String, Object> redisTemplate,
+                     final RedisHealthMonitor redisHealthMonitor,
+                     final MeterRegistry meterRegistry,
+                     final ApplicationContext applicationContext,
+                     final Environment environment,
+                     @Value("${spring.task.scheduling.job.catch-up:true}") final boolean catchUpEnabled) {
+        this.redissonClient = redissonClient;
+        this.redisTemplate = redisTemplate;
+        this.redisHealthMonitor = redisHealthMonitor;
+        this.meterRegistry = meterRegistry;
+        this.applicationContext = applicationContext;
+        this.environment = environment;
+        this.catchUpEnabled = catchUpEnabled;
+        this.node = ManagementFactory.getRuntimeMXBean().getName();
+        this.catchUpExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "job-catch-up");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        catchUpExecutor.shutdownNow();
+    }
+
+    /**
+     * 작업 정의 등록(또는 조회)
+     */
+    public Job register(final Method method, final CustomJob customJob) {
+        return jobs.computeIfAbsent(customJob.name(), name -> new Job(
+                name,
+                Math.max(1, customJob.partitions()),
+                customJob.leaseTime() < 0 ? -1L : customJob.timeUnit().toMillis(customJob.leaseTime()),
+                JobSchedule.of(AnnotatedElementUtils.findMergedAnnotation(method, Scheduled.class),
+                               environment::resolvePlaceholders)
+        ));
+    }
+
+    public Collection<Job> jobs() {
+        return jobs.values();
+    }
+
+    /**
+     * 모든 파티션 실행 시도, 파티션 실패는 기록 후 다음 파티션을 계속 진행
+     */
+    public void run(final Job job, final Task task) {
+        int offset = job.partitions() > 1 ? ThreadLocalRandom.current().nextInt(job.partitions()) : 0;
+        for (int i = 0; i < job.partitions(); i++)
+            runPartition(job, new JobPartition((offset + i) % job.partitions(), job.partitions()), task);
+    }
+
+    /**
+     * 최근 실행 기록, 최신순
+     */
+    @SuppressWarnings("unchecked")
+    public List<JobRun> history(final String name, final int limit) {
+        List<Object> runs = redisTemplate.opsForList().range(historyKey(name), 0, limit - 1);
+        return runs == null ? List.of() : (List<JobRun>) (List<?>) runs;
+    }
+
+    public JobRun lastRun(final String name, final int partition) {
+        return (JobRun) redisTemplate.opsForValue().get(lastKey(name, partition));
+    }
+
+    /**
+     * 서버가 내려가 있는 동안 실행 시각이 지난 작업을 한 번 실행, 실행은 프록시를 통해 락/중복 확인을 거친다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void catchUp() {
+        if (!catchUpEnabled)
+            return;
+
+        for (String beanName : applicationContext.getBeanDefinitionNames()) {
+            Class<?> type = applicationContext.getType(beanName);
+            if (type == null || !type.getName().startsWith("com.app.backend"))
+                continue;
+
+            ReflectionUtils.doWithMethods(ClassUtils.getUserClass(type), method -> {
+                CustomJob customJob = AnnotatedElementUtils.findMergedAnnotation(method, CustomJob.class);
+                if (customJob == null)
+                    return;
+
+                Job job = register(method, customJob);
+                if (customJob.catchUp() && isOverdue(job)) {
+                    log.info("놓친 작업 실행: {}", job.name());
+                    catchUpExecutor.execute(() -> ReflectionUtils.invokeMethod(method, applicationContext.getBean(beanName)));
+                }
+            });
+        }
+    }
+
+    private boolean isOverdue(final Job job) {
+        try {
+            long now = System.currentTimeMillis();
+            for (int partition = 0; partition < job.partitions(); partition++) {
+                JobRun last = lastRun(job.name(), partition);
+                if (last != null && job.schedule().nextAfter(last.startedAt()) + job.schedule().tolerance() < now)
+                    return true;
+            }
+        } catch (DataAccessException e) {
+            log.warn("작업 실행 기록 조회 실패: {}", job.name(), e);
+        }
+        return false;
+    }
+
+    private void runPartition(final Job job, final JobPartition partition, final Task task) {
+        if (!redisHealthMonitor.isAvailable()) {
+            recordSkip(job, "redis_down");
+            return;
+        }
+
+        RLock lock = redissonClient.getLock(lockKey(job.name(), partition.index()));
+        try {
+            if (!lock.tryLock(0L, job.leaseMillis(), TimeUnit.MILLISECONDS)) {
+                recordSkip(job, "locked");
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (RedisException e) {
+            redisHealthMonitor.recordFailure();
+            recordSkip(job, "redis_down");
+            return;
+        }
+
+        try {
+            long   now  = System.currentTimeMillis();
+            JobRun last = lastRun(job.name(), partition.index());
+            if (last != null) {
+                long dueAt = job.schedule().nextAfter(last.startedAt());
+                if (now < dueAt - job.schedule().tolerance()) {
+                    recordSkip(job, "done");
+                    return;
+                }
+                Timer.builder("job.lag")
+                     .tag("job", job.name())
+                     .register(meterRegistry)
+                     .record(Math.max(0L, now - dueAt), TimeUnit.MILLISECONDS);
+            }
+            execute(job, partition, task, now);
+        } catch (DataAccessException e) {
+            log.error("작업 실행 기록 처리 실패: {}", job.name(), e);
+        } finally {
+            unlock(lock);
+        }
+    }
+
+    private void execute(final Job job, final JobPartition partition, final Task task, final long startedAt) {
+        JobPartition previous = JobPartition.bind(partition);
+        String       error    = null;
+        try {
+            task.run();
+        } catch (Throwable e) {
+            error = e.getClass().getSimpleName() + ": " + e.getMessage();
+            log.error("작업 실행 실패: {} [{}/{}]", job.name(), partition.index(), partition.count(), e);
+        } finally {
+            JobPartition.restore(previous);
+        }
+
+        long    finishedAt = System.currentTimeMillis();
+        boolean success    = error == null;
+        Timer.builder("job.duration")
+             .tag("job", job.name())
+             .tag("result", success ? "success" : "failure")
+             .publishPercentileHistogram()
+             .register(meterRegistry)
+             .record(finishedAt - startedAt, TimeUnit.MILLISECONDS);
+
+        JobRun run = new JobRun(job.name(), partition.index(), node, startedAt, finishedAt, success, error);
+        redisTemplate.opsForList().leftPush(historyKey(job.name()), run);
+        redisTemplate.opsForList().trim(historyKey(job.name()), 0, HISTORY_SIZE - 1);
+        redisTemplate.expire(historyKey(job.name()), RECORD_TTL, TimeUnit.MILLISECONDS);
+        if (success)
+            redisTemplate.opsForValue().set(lastKey(job.name(), partition.index()), run, RECORD_TTL, TimeUnit.MILLISECONDS);
+    }
+
+    private void recordSkip(final Job job, final String reason) {
+        Counter.builder("job.skipped")
+               .tag("job", job.name())
+               .tag("reason", reason)
+               .register(meterRegistry)
+               .increment();
+    }
+
+    private void unlock(final RLock lock) {
+        try {
+            if (lock.isHeldByCurrentThread())
+                lock.unlock();
+        } catch (RedisException e) {
+            log.warn("작업 락 해제 실패, 임대 시간 만료 후 해제됨: {}", lock.getName(), e);
+        }
+    }
+
+    private static String lockKey(final String name, final int partition) {
+        return KEY_PREFIX + name + ":" + partition;
+    }
+
+    private static String lastKey(final String name, final int partition) {
+        return KEY_PREFIX + name + ":" + partition + ":last";
+    }
+
+    private static String historyKey(final String name) {
+        return KEY_PREFIX + name + ":history";
+    }
+
+    @FunctionalInterface
+    public interface Task {
+        void run() throws Throwable;
+    }
+
+    /**
+     * @param leaseMillis - 락 임대 시간(ms), -1 이면 자동 연장
+     */
+    public record Job(String name, int partitions, long leaseMillis, JobSchedule schedule) {
+    }
+
+    public record JobRun(String job, int partition, String node, long startedAt, long finishedAt, boolean success,
+                         String error) {
+    }
+
+}
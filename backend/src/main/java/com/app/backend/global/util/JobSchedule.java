@@ -0,0 +1,66 @@
+package com.app.backend.global.util;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.function.UnaryOperator;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.support.CronExpression;
+
+/**
+ * @Scheduled 설정으로 계산한 작업 실행 주기
+ *
+ * @param cron         - cron 표현식, 고정 주기 작업이면 null
+ * @param zone         - cron 시간대
+ * @param periodMillis - 실행 간격(ms), 알 수 없으면 0
+ */
+public record JobSchedule(CronExpression cron, ZoneId zone, long periodMillis) {
+
+    public static final JobSchedule UNKNOWN = new JobSchedule(null, ZoneId.systemDefault(), 0L);
+
+    private static final long MAX_TOLERANCE = 60_000L;
+
+    /**
+     * @param scheduled - 메서드의 @Scheduled, 없으면 null
+     * @param resolver  - 프로퍼티 placeholder 처리
+     */
+    public static JobSchedule of(final Scheduled scheduled, final UnaryOperator<String> resolver) {
+        if (scheduled == null)
+            return UNKNOWN;
+
+        String cronValue = resolver.apply(scheduled.cron());
+        if (!cronValue.isEmpty() && !Scheduled.CRON_DISABLED.equals(cronValue)) {
+            CronExpression cron  = CronExpression.parse(cronValue);
+            ZoneId         zone  = scheduled.zone().isEmpty() ? ZoneId.systemDefault() : ZoneId.of(scheduled.zone());
+            ZonedDateTime  first = cron.next(ZonedDateTime.now(zone));
+            ZonedDateTime  next  = first == null ? null : cron.next(first);
+            return new JobSchedule(cron, zone, next == null ? 0L : Duration.between(first, next).toMillis());
+        }
+
+        if (scheduled.fixedRate() > 0)
+            return new JobSchedule(null, ZoneId.systemDefault(), scheduled.timeUnit().toMillis(scheduled.fixedRate()));
+        if (scheduled.fixedDelay() > 0)
+            return new JobSchedule(null, ZoneId.systemDefault(), scheduled.timeUnit().toMillis(scheduled.fixedDelay()));
+        return UNKNOWN;
+    }
+
+    /**
+     * 주어진 시각에 실행된 작업의 다음 실행 예정 시각(epoch ms)
+     */
+    public long nextAfter(final long epochMillis) {
+        if (cron != null) {
+            ZonedDateTime next = cron.next(Instant.ofEpochMilli(epochMillis).atZone(zone));
+            return next == null ? Long.MAX_VALUE : next.toInstant().toEpochMilli();
+        }
+        return epochMillis + periodMillis;
+    }
+
+    /**
+     * 서버 간 시계/스케줄러 오차 허용 범위, 실행 간격의 10%(최대 1분)
+     */
+    public long tolerance() {
+        return Math.min(periodMillis / 10, MAX_TOLERANCE);
+    }
+
+}
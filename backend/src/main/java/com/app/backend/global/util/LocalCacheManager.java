@@ -0,0 +1,90 @@
+package com.app.backend.global.util;
+
+import com.app.backend.global.annotation.CustomCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * CustomCache L1(JVM 로컬) 캐시 관리
+ * <p>
+ * 영역(region)은 prefix:key 단위로 생성되며, 영역마다 최대 크기와 TTL 이 적용된다.
+ * 삭제 요청은 Redis pub/sub 으로 모든 노드에 전파된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocalCacheManager implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+
+    private final Map<String, Cache<String, Object>> regions = new ConcurrentHashMap<>();
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public Object get(final CustomCache customCache, final String cacheKey) {
+        Cache<String, Object> region = regions.get(regionName(customCache));
+        return region == null ? null : region.getIfPresent(cacheKey);
+    }
+
+    public void put(final CustomCache customCache, final String cacheKey, final Object value) {
+        if (value == null)
+            return;
+        regions.computeIfAbsent(regionName(customCache), name -> createRegion(customCache)).put(cacheKey, value);
+    }
+
+    /**
+     * 현재 노드의 L1 캐시에서 삭제 후 다른 노드에 삭제 메시지 전파
+     *
+     * @param cacheKey - 캐시 키
+     */
+    public void evict(final String cacheKey) {
+        evictLocal(cacheKey);
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, cacheKey);
+        } catch (Exception e) {
+            log.warn("Failed to publish cache invalidation: {}", cacheKey, e);
+        }
+    }
+
+    /**
+     * 현재 노드의 L1 캐시에서만 삭제, 캐시 키는 영역 이름 또는 "영역 이름:" 으로 시작(post 영역이 postView 키와 겹치지 않도록 구분자까지 비교)
+     */
+    public void evictLocal(final String cacheKey) {
+        regions.forEach((name, region) -> {
+            if (belongsTo(cacheKey, name))
+                region.invalidate(cacheKey);
+        });
+    }
+
+    static boolean belongsTo(final String cacheKey, final String regionName) {
+        return cacheKey.startsWith(regionName)
+               && (cacheKey.length() == regionName.length() || cacheKey.charAt(regionName.length()) == ':');
+    }
+
+    @Override
+    public void onMessage(final Message message, final byte[] pattern) {
+        Object cacheKey = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (cacheKey != null)
+            evictLocal(cacheKey.toString());
+    }
+
+    private String regionName(final CustomCache customCache) {
+        return customCache.key().isEmpty() ? customCache.prefix() : customCache.prefix() + ":" + customCache.key();
+    }
+
+    private Cache<String, Object> createRegion(final CustomCache customCache) {
+        return Caffeine.newBuilder()
+                       .maximumSize(customCache.localMaxSize())
+                       .expireAfterWrite(customCache.localTtl(), customCache.localTtlUnit())
+                       .build();
+    }
+
+}
@@ -0,0 +1,132 @@
+package com.app.backend.global.util;
+
+import com.app.backend.global.util.LockUtil.LockType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * JVM 로컬 락 테이블
+ * <p>
+ * 락 키의 해시로 고정 개수의 ReentrantReadWriteLock 중 하나를 선택한다(striping). 키마다 락 객체를 만들거나 정리할 필요가 없으며,
+ * 경합이 없으면 CAS 한 번으로 획득한다. 서로 다른 키가 같은 stripe 를 공유할 수 있으므로 불필요한 대기가 생길 수 있다.
+ * <p>
+ * READ 는 읽기 락, WRITE/EXCLUSIVE 는 쓰기 락을 사용하므로 READ 끼리는 서로 기다리지 않는다.
+ * 쓰기 락을 보유한 스레드는 같은 stripe 의 읽기 락을 얻을 수 있지만, 읽기 락을 보유한 스레드는 같은 stripe 의 쓰기 락을 얻을 수 없다.
+ * 다른 키라도 같은 stripe 에 해시되면 해당하므로, 이 경우 대기하지 않고 바로 실패한다.
+ */
+@Slf4j
+@Component
+public class LocalLockTable {
+
+    private static final int DEFAULT_STRIPES = 256;
+
+    private final ReentrantReadWriteLock[] stripes;
+
+    public LocalLockTable() {
+        this(DEFAULT_STRIPES);
+    }
+
+    LocalLockTable(final int stripeCount) {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1) << 1);
+        this.stripes = new ReentrantReadWriteLock[size];
+        for (int i = 0; i < size; i++)
+            stripes[i] = new ReentrantReadWriteLock();
+    }
+
+    public ReadWriteLock get(final String lockKey) {
+        return stripes[indexOf(lockKey)];
+    }
+
+    /**
+     * 락 획득 시도, 바로 얻을 수 없으면 최대 대기 시간까지 기다린다.
+     *
+     * @param lockKey     - 락 키
+     * @param maxWaitTime - 최대 대기 시간(ms)
+     * @return 획득 여부
+     */
+    public boolean tryLock(final String lockKey, final long maxWaitTime) {
+        return tryLock(lockKey, maxWaitTime, LockType.EXCLUSIVE);
+    }
+
+    /**
+     * 락 획득 시도, 바로 얻을 수 없으면 최대 대기 시간까지 기다린다.
+     *
+     * @param lockKey     - 락 키
+     * @param maxWaitTime - 최대 대기 시간(ms)
+     * @param lockType    - READ 면 읽기 락, 그 외는 쓰기 락
+     * @return 획득 여부, 현재 스레드가 같은 stripe 의 읽기 락을 보유한 채 쓰기 락을 요청하면 대기 없이 false
+     */
+    public boolean tryLock(final String lockKey, final long maxWaitTime, final LockType lockType) {
+        ReentrantReadWriteLock stripe = stripes[indexOf(lockKey)];
+        if (lockType != LockType.READ && stripe.getReadHoldCount() > 0) {
+            log.warn("Cannot take a local write lock while holding a read lock on the same stripe: {}", lockKey);
+            return false;
+        }
+
+        Lock lock = lockType == LockType.READ ? stripe.readLock() : stripe.writeLock();
+        if (lock.tryLock())
+            return true;
+        try {
+            return lock.tryLock(maxWaitTime, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Local lock acquisition interrupted", e);
+        }
+    }
+
+    /**
+     * 여러 키를 잠글 때의 획득 순서
+     * <p>
+     * 키 정렬 순서와 stripe 순서는 다르므로 stripe 번호 순으로 정렬하고, 같은 stripe 의 키는 첫 번째 키만 남긴다.
+     * 모든 호출자가 같은 순서로 stripe 를 잠그므로 서로 기다리며 멈추지 않고, 한 stripe 를 두 번 잠그지 않는다.
+     *
+     * @param lockKeys - 락 키 목록
+     * @return stripe 별 대표 키 목록(stripe 번호 순)
+     */
+    public List<String> lockOrder(final Collection<String> lockKeys) {
+        Map<Integer, String> keysByStripe = new TreeMap<>();
+        for (String lockKey : lockKeys)
+            keysByStripe.putIfAbsent(indexOf(lockKey), lockKey);
+        return new ArrayList<>(keysByStripe.values());
+    }
+
+    public void unlock(final String lockKey) {
+        unlock(lockKey, LockType.EXCLUSIVE);
+    }
+
+    /**
+     * 현재 스레드가 보유한 락 해제, 보유하지 않은 락이면 무시
+     */
+    public void unlock(final String lockKey, final LockType lockType) {
+        ReentrantReadWriteLock stripe = stripes[indexOf(lockKey)];
+        if (lockType == LockType.READ) {
+            if (stripe.getReadHoldCount() > 0)
+                stripe.readLock().unlock();
+        } else if (stripe.isWriteLockedByCurrentThread()) {
+            stripe.writeLock().unlock();
+        }
+    }
+
+    public int heldCount() {
+        int count = 0;
+        for (ReentrantReadWriteLock lock : stripes)
+            if (lock.isWriteLocked() || lock.getReadLockCount() > 0)
+                count++;
+        return count;
+    }
+
+    private int indexOf(final String lockKey) {
+        int hash = lockKey.hashCode();
+        return (hash ^ (hash >>> 16)) & (stripes.length - 1);
+    }
+
+}
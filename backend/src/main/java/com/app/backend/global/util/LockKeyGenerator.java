@@ -2,7 +2,6 @@ package com.app.backend.global.util;
 
 import jakarta.validation.constraints.NotNull;
 import java.lang.reflect.Array;
-import java.lang.reflect.Method;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -10,32 +9,45 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeSet;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.reflect.MethodSignature;
-import org.springframework.expression.ExpressionParser;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
 
 public class LockKeyGenerator {
 
-    private static final ExpressionParser PARSER = new SpelExpressionParser();
-
     public static String generateLockKey(final ProceedingJoinPoint joinPoint, @NotNull final String spelExpression) {
-        MethodSignature signature      = (MethodSignature) joinPoint.getSignature();
-        Object[]        args           = joinPoint.getArgs();
-        Method          method         = signature.getMethod();
-        String[]        parameterNames = signature.getParameterNames();
-
-        StandardEvaluationContext context = new StandardEvaluationContext();
-        for (int i = 0; i < parameterNames.length; i++)
-            context.setVariable(parameterNames[i], args[i]);
+        return generateLockKey(joinPoint, "", spelExpression);
+    }
 
-        Object value = PARSER.parseExpression(spelExpression).getValue(context);
+    public static String generateLockKey(final ProceedingJoinPoint joinPoint,
+                                         final String prefix,
+                                         @NotNull final String spelExpression) {
+        Object value = MethodKeyPlan.of(joinPoint).evaluate(spelExpression, joinPoint.getArgs());
 
         if (value == null)
             throw new IllegalArgumentException("Lock key cannot be null");
 
-        return "%s:%s".formatted(method.getName(), convertToKey(value));
+        String name = prefix.isEmpty() ? ((MethodSignature) joinPoint.getSignature()).getMethod().getName() : prefix;
+        return "%s:%s".formatted(name, convertToKey(value));
+    }
+
+    /**
+     * key 와 keys 의 모든 락 키를 정렬/중복 제거하여 반환, 모든 호출부가 같은 순서로 락을 획득하므로 교착 상태가 생기지 않는다.
+     */
+    public static List<String> generateLockKeys(final ProceedingJoinPoint joinPoint,
+                                                final String prefix,
+                                                final String key,
+                                                final String[] keys) {
+        TreeSet<String> lockKeys = new TreeSet<>();
+        if (!key.isEmpty())
+            lockKeys.add(generateLockKey(joinPoint, prefix, key));
+        for (String spelExpression : keys)
+            lockKeys.add(generateLockKey(joinPoint, prefix, spelExpression));
+
+        if (lockKeys.isEmpty())
+            throw new IllegalArgumentException("Lock key cannot be empty");
+
+        return List.copyOf(lockKeys);
     }
 
     public static String generateLockKey(final String keyParam) {
@@ -1,11 +1,22 @@
 package com.app.backend.global.util;
 
+import com.app.backend.global.util.LockUtil.LockMode;
+import com.app.backend.global.util.LockUtil.LockType;
 import com.app.backend.global.util.LockUtil.LockWrapper;
+import com.app.backend.global.util.LockUtil.WaitStrategy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
+import org.redisson.api.RScript;
 import org.redisson.api.RedissonClient;
-import org.redisson.client.RedisConnectionException;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
@@ -15,41 +26,223 @@ import org.springframework.transaction.support.TransactionSynchronizationManager
 @RequiredArgsConstructor
 public class LockManager {
 
-    private final static int  MAX_UNLOCK_RETRY_COUNT = 3;
-    private final static long RETRY_DELAY            = 100L;
+    /**
+     * Redis 장애 시 락 정책
+     * <p>
+     * LOCAL : JVM 로컬 락으로 전환(단일 노드 배포) <br>
+     * FAIL : 락 획득 실패 처리(다중 노드 배포, 로컬 락으로는 노드 간 상호 배제가 보장되지 않음)
+     */
+    public enum FallbackPolicy {
+        LOCAL, FAIL
+    }
+
+    private final static int    MAX_UNLOCK_RETRY_COUNT = 3;
+    private final static long   RETRY_DELAY            = 100L;
+    private final static String FENCE_KEY              = "fence:token";
+    private final static long   LOCK_LOST              = -1L;
+    private final static String FENCE_SCRIPT           = """
+            if redis.call('hexists', KEYS[1], ARGV[1]) == 0 then
+                return -1
+            end
+            return redis.call('incr', KEYS[2])
+            """;
+
+    private final RedissonClient     redissonClient;
+    private final LockUtil           lockUtil;
+    private final RedisHealthMonitor redisHealthMonitor;
+    private final LocalLockTable     localLockTable;
+    private final MeterRegistry      meterRegistry;
+    private final LockMetrics        lockMetrics;
 
-    private final RedissonClient redissonClient;
-    private final LockUtil       lockUtil;
+    @Value("${spring.data.redis.lock.fallback:LOCAL}")
+    private FallbackPolicy fallbackPolicy;
+
+    @PostConstruct
+    public void registerMetrics() {
+        meterRegistry.gauge("lock.local.held", localLockTable, LocalLockTable::heldCount);
+    }
 
     public LockWrapper acquireLock(final String lockKey, final long maxWaitTime, final long leaseTime) {
-        if (!isRedisRunning())
-            throw new IllegalStateException("Redis server is not available");
-        RLock lock = redissonClient.getLock(lockKey);
-        return LockWrapper.of(lockKey, lock, lockUtil.lockWithRetry(lock, maxWaitTime, leaseTime));
+        return acquireLock(lockKey, maxWaitTime, leaseTime, WaitStrategy.BACKOFF, false);
+    }
+
+    public LockWrapper acquireLock(final String lockKey,
+                                   final long maxWaitTime,
+                                   final long leaseTime,
+                                   final WaitStrategy waitStrategy,
+                                   final boolean fair) {
+        return acquireLock(lockKey, maxWaitTime, leaseTime, waitStrategy, fair, LockType.EXCLUSIVE);
+    }
+
+    public LockWrapper acquireLock(final String lockKey,
+                                   final long maxWaitTime,
+                                   final long leaseTime,
+                                   final WaitStrategy waitStrategy,
+                                   final boolean fair,
+                                   final LockType lockType) {
+        long start = System.nanoTime();
+        if (!redisHealthMonitor.isAvailable())
+            return acquireLocalLock(lockKey, maxWaitTime, lockType, start);
+        try {
+            RLock lock = switch (lockType) {
+                case READ -> redissonClient.getReadWriteLock(lockKey).readLock();
+                case WRITE -> redissonClient.getReadWriteLock(lockKey).writeLock();
+                case EXCLUSIVE -> fair ? redissonClient.getFairLock(lockKey) : redissonClient.getLock(lockKey);
+            };
+            boolean locked = lockUtil.lockWithRetry(lock, maxWaitTime, leaseTime, waitStrategy);
+            if (!locked || lockType == LockType.READ)
+                return record(LockWrapper.of(lockKey, lock, locked), start);
+
+            long fencingToken = nextFencingToken(lockKey, lockType);
+            if (fencingToken == LOCK_LOST) {
+                log.warn("Lock expired before a fencing token was issued: {}", lockKey);
+                return record(LockWrapper.of(lockKey, lock, false), start);
+            }
+            return record(LockWrapper.of(lockKey, lock, true, fencingToken), start);
+        } catch (RedisException e) {
+            log.warn("Redis server is not available", e);
+            redisHealthMonitor.recordFailure();
+            return acquireLocalLock(lockKey, maxWaitTime, lockType, start);
+        }
+    }
+
+    /**
+     * 정렬된 락 키 목록을 순서대로 획득, 최대 대기 시간은 전체 키에 대해 적용
+     *
+     * @return 획득한 락 목록, 하나라도 실패하면 이미 획득한 락을 해제하고 빈 목록 반환
+     */
+    public List<LockWrapper> acquireLocks(final List<String> lockKeys,
+                                          final long maxWaitTime,
+                                          final long leaseTime,
+                                          final WaitStrategy waitStrategy,
+                                          final boolean fair,
+                                          final LockType lockType) {
+        long deadline = System.currentTimeMillis() + maxWaitTime;
+        if (!redisHealthMonitor.isAvailable())
+            return acquireLocalLocks(lockKeys, deadline, lockType);
+
+        List<LockWrapper> lockWrappers = new ArrayList<>(lockKeys.size());
+        for (String lockKey : lockKeys) {
+            LockWrapper lockWrapper = acquireLock(lockKey,
+                                                  Math.max(0L, deadline - System.currentTimeMillis()),
+                                                  leaseTime,
+                                                  waitStrategy,
+                                                  fair,
+                                                  lockType);
+            if (lockWrapper.getMode() == LockMode.LOCAL) {
+                // 도중에 로컬 락으로 전환되면 지금까지 획득한 락을 풀고 stripe 순서로 다시 획득
+                releaseLock(lockWrapper);
+                releaseLocks(lockWrappers);
+                return acquireLocalLocks(lockKeys, deadline, lockType);
+            }
+            if (!lockWrapper.isLocked()) {
+                releaseLocks(lockWrappers);
+                return List.of();
+            }
+            lockWrappers.add(lockWrapper);
+        }
+        return lockWrappers;
+    }
+
+    /**
+     * 로컬 락 여러 개를 stripe 순서로 획득(LocalLockTable#lockOrder)
+     *
+     * @return 획득한 락 목록, 하나라도 실패하면 이미 획득한 락을 해제하고 빈 목록 반환
+     */
+    private List<LockWrapper> acquireLocalLocks(final List<String> lockKeys, final long deadline, final LockType lockType) {
+        List<String>      orderedKeys  = localLockTable.lockOrder(lockKeys);
+        List<LockWrapper> lockWrappers = new ArrayList<>(orderedKeys.size());
+
+        for (String lockKey : orderedKeys) {
+            LockWrapper lockWrapper = acquireLocalLock(lockKey,
+                                                       Math.max(0L, deadline - System.currentTimeMillis()),
+                                                       lockType,
+                                                       System.nanoTime());
+            if (!lockWrapper.isLocked()) {
+                releaseLocks(lockWrappers);
+                return List.of();
+            }
+            lockWrappers.add(lockWrapper);
+        }
+        return lockWrappers;
+    }
+
+    /**
+     * 획득의 역순으로 락 해제
+     */
+    public void releaseLocks(final List<LockWrapper> lockWrappers) {
+        for (int i = lockWrappers.size() - 1; i >= 0; i--)
+            releaseLock(lockWrappers.get(i));
     }
 
     public void releaseLock(final LockUtil.LockWrapper lockWrapper) {
-        if (lockWrapper.isLocked())
+        if (!lockWrapper.isLocked())
+            return;
+        if (lockWrapper.getMode() == LockMode.LOCAL)
+            localLockTable.unlock(lockWrapper.getLockKey(), lockWrapper.getLockType());
+        else
             lockUtil.unlockWithRetry(lockWrapper.getLock(), 0);
+        lockMetrics.recordRelease(lockWrapper);
     }
 
     public void registerLockReleaseAfterTransaction(final LockUtil.LockWrapper lockWrapper) {
+        registerLockReleaseAfterTransaction(List.of(lockWrapper));
+    }
+
+    public void registerLockReleaseAfterTransaction(final List<LockWrapper> lockWrappers) {
         TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
             @Override
             public void afterCompletion(int status) {
-                releaseLock(lockWrapper);
+                releaseLocks(lockWrappers);
             }
         });
     }
 
-    private boolean isRedisRunning() {
+    /**
+     * 펜싱 토큰 발급, 모든 락 키가 하나의 카운터를 공유하므로 같은 행을 서로 다른 락 키로 보호해도 토큰 비교가 유효하다.
+     * <p>
+     * 현재 스레드가 락을 보유한 경우에만 같은 스크립트 안에서 카운터를 증가시킨다. 획득 직후 임대 시간이 지나 다른 보유자가
+     * 먼저 토큰을 받았다면 LOCK_LOST 를 반환하므로, 늦게 받은 토큰이 새 보유자의 토큰보다 커지는 일이 없다.
+     * READ 락은 DB 쓰기가 없으므로 토큰을 발급하지 않는다.
+     *
+     * @return 펜싱 토큰, 락을 잃었으면 LOCK_LOST, Redis 오류 시 0(검사 생략)
+     */
+    private long nextFencingToken(final String lockKey, final LockType lockType) {
+        //Redisson 락 해시의 보유자 필드 : {클라이언트 ID}:{스레드 ID}, 읽기/쓰기 락의 쓰기 락은 뒤에 :write
+        String holder = redissonClient.getId() + ":" + Thread.currentThread().getId()
+                        + (lockType == LockType.WRITE ? ":write" : "");
         try {
-            redissonClient.getKeys().count();
-            return true;
-        } catch (RedisConnectionException e) {
-            log.warn("Redis server is not available. Switching to local lock", e);
-            return false;
+            Long token = redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE,
+                                                                              FENCE_SCRIPT,
+                                                                              RScript.ReturnType.INTEGER,
+                                                                              List.of(lockKey, FENCE_KEY),
+                                                                              holder);
+            return token == null ? 0L : token;
+        } catch (RedisException e) {
+            log.warn("Failed to issue fencing token", e);
+            return 0L;
         }
     }
 
+    private LockWrapper acquireLocalLock(final String lockKey,
+                                         final long maxWaitTime,
+                                         final LockType lockType,
+                                         final long start) {
+        if (fallbackPolicy == FallbackPolicy.FAIL)
+            throw new IllegalStateException("Redis server is not available");
+
+        log.warn("Redis server is not available. Switching to local lock: {}", lockKey);
+        return record(LockWrapper.local(lockKey, lockType, localLockTable.tryLock(lockKey, maxWaitTime, lockType)), start);
+    }
+
+    private LockWrapper record(final LockWrapper lockWrapper, final long start) {
+        lockMetrics.recordAcquire(lockWrapper, System.nanoTime() - start);
+        Counter.builder("lock.acquire")
+               .tag("mode", lockWrapper.getMode().name().toLowerCase())
+               .tag("result", lockWrapper.isLocked() ? "acquired" : "failed")
+               .register(meterRegistry)
+               .increment();
+        return lockWrapper;
+    }
+
 }
@@ -0,0 +1,108 @@
+package com.app.backend.global.util;
+
+import com.app.backend.global.util.LockUtil.LockWrapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 분산 락 메트릭 기록 및 현재 보유 중인 락 목록 관리
+ * <p>
+ * 메트릭 태그(prefix)는 락 키의 숫자를 *로 치환한 값이다(예: lock:group:* ).
+ */
+@Component
+@RequiredArgsConstructor
+public class LockMetrics {
+
+    private static final Pattern NUMBER = Pattern.compile("\\d+");
+
+    private final Map<LockWrapper, HeldLock> heldLocks = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 락 획득 결과 기록, 획득한 경우 보유 목록에 추가
+     *
+     * @param lockWrapper - 락
+     * @param waitNanos   - 획득까지 걸린 시간(ns)
+     */
+    public void recordAcquire(final LockWrapper lockWrapper, final long waitNanos) {
+        String prefix = prefixOf(lockWrapper.getLockKey());
+        String mode   = lockWrapper.getMode().name().toLowerCase();
+
+        Timer.builder("lock.wait")
+             .tag("prefix", prefix)
+             .tag("mode", mode)
+             .tag("result", lockWrapper.isLocked() ? "acquired" : "timeout")
+             .publishPercentileHistogram()
+             .register(meterRegistry)
+             .record(waitNanos, TimeUnit.NANOSECONDS);
+
+        if (lockWrapper.isLocked())
+            heldLocks.put(lockWrapper, new HeldLock(lockWrapper.getLockKey(),
+                                                    mode,
+                                                    Thread.currentThread().getName(),
+                                                    System.currentTimeMillis()));
+        else
+            Counter.builder("lock.timeouts")
+                   .tag("prefix", prefix)
+                   .register(meterRegistry)
+                   .increment();
+    }
+
+    /**
+     * 락 해제 기록, 획득부터 해제(트랜잭션 종료 후 해제 포함)까지의 보유 시간 기록
+     */
+    public void recordRelease(final LockWrapper lockWrapper) {
+        HeldLock heldLock = heldLocks.remove(lockWrapper);
+        if (heldLock == null)
+            return;
+
+        Timer.builder("lock.hold")
+             .tag("prefix", prefixOf(heldLock.lockKey()))
+             .publishPercentileHistogram()
+             .register(meterRegistry)
+             .record(System.currentTimeMillis() - heldLock.acquiredAt(), TimeUnit.MILLISECONDS);
+    }
+
+    public void recordRetries(final String lockKey, final int retries) {
+        DistributionSummary.builder("lock.retries")
+                           .tag("prefix", prefixOf(lockKey))
+                           .register(meterRegistry)
+                           .record(retries);
+    }
+
+    public void recordForcedUnlock(final String lockKey) {
+        Counter.builder("lock.forced.unlocks")
+               .tag("prefix", prefixOf(lockKey))
+               .register(meterRegistry)
+               .increment();
+    }
+
+    /**
+     * 현재 보유 중인 락 목록, 오래 보유한 순서
+     */
+    public List<HeldLock> heldLocks() {
+        return heldLocks.values()
+                        .stream()
+                        .sorted(Comparator.comparingLong(HeldLock::acquiredAt))
+                        .toList();
+    }
+
+    static String prefixOf(final String lockKey) {
+        return NUMBER.matcher(lockKey).replaceAll("*");
+    }
+
+    public record HeldLock(String lockKey, String mode, String thread, long acquiredAt) {
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.app.backend.global.util;
 
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -16,34 +17,65 @@ public class LockUtil {
 
     private final static int  MAX_UNLOCK_RETRY_COUNT = 3;
     private final static long RETRY_DELAY            = 100L;
+    private final static long INITIAL_RETRY_DELAY    = 50L;
+    private final static long MAX_RETRY_DELAY        = 1000L;
+
+    private final LockMetrics lockMetrics;
 
     boolean lockWithRetry(final RLock lock, final long maxWaitTime, final long leaseTime) {
-        long baseDelay   = 100L;
-        long elapsedTime = 0L;
+        return lockWithRetry(lock, maxWaitTime, leaseTime, WaitStrategy.BACKOFF);
+    }
 
-        while (elapsedTime < maxWaitTime) {
+    /**
+     * 락 획득
+     * <p>
+     * BACKOFF : 지수 백오프(full jitter)로 재시도 <br>
+     * PUBSUB : Redisson 락 해제 알림을 구독하고 최대 대기 시간까지 대기, 해제 즉시 깨어난다.
+     */
+    boolean lockWithRetry(final RLock lock, final long maxWaitTime, final long leaseTime, final WaitStrategy waitStrategy) {
+        if (waitStrategy == WaitStrategy.PUBSUB)
             try {
-                if (lock.tryLock(0, leaseTime, TimeUnit.MILLISECONDS))
-                    return true;
+                return lock.tryLock(maxWaitTime, leaseTime, TimeUnit.MILLISECONDS);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 throw new RuntimeException("Redis lock acquisition interrupted", e);
             }
 
-            log.info("Redis lock acquisition failed, retrying after wait time: {}ms", baseDelay);
-            sleep(baseDelay);
+        long baseDelay = INITIAL_RETRY_DELAY;
+        long deadline  = System.currentTimeMillis() + maxWaitTime;
+        int  retries   = 0;
+
+        try {
+            while (true) {
+                try {
+                    if (lock.tryLock(0, leaseTime, TimeUnit.MILLISECONDS))
+                        return true;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Redis lock acquisition interrupted", e);
+                }
 
-            elapsedTime += baseDelay;
-            baseDelay = Math.min(baseDelay * 2, maxWaitTime - elapsedTime);
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0)
+                    return false;
+
+                long delay = Math.min(ThreadLocalRandom.current().nextLong(baseDelay / 2, baseDelay + 1), remaining);
+                log.debug("Redis lock acquisition failed, retrying after wait time: {}ms", delay);
+                sleep(delay);
+
+                retries++;
+                baseDelay = Math.min(baseDelay * 2, MAX_RETRY_DELAY);
+            }
+        } finally {
+            lockMetrics.recordRetries(lock.getName(), retries);
         }
-        return false;
     }
 
     void unlockWithRetry(final RLock lock, int retryCount) {
         if (lock.isLocked() && lock.isHeldByCurrentThread())
             try {
                 lock.unlock();
-                log.info("Redisson lock successfully unlocked");
+                log.debug("Redisson lock successfully unlocked");
             } catch (Exception e) {
                 log.warn("Failed to unlock redisson lock, retrying {}/{}", retryCount + 1,
                          MAX_UNLOCK_RETRY_COUNT);
@@ -58,6 +90,7 @@ public class LockUtil {
     private void forceUnlock(final RLock lock) {
         if (lock.isLocked() && lock.isHeldByCurrentThread()) {
             lock.forceUnlock();
+            lockMetrics.recordForcedUnlock(lock.getName());
             log.warn("Redisson lock forcefully unlocked after max retries");
         } else
             log.warn("Skipping force unlock, lock is not held by current thread");
@@ -72,19 +105,56 @@ public class LockUtil {
         }
     }
 
+    public enum WaitStrategy {
+        BACKOFF, PUBSUB
+    }
+
+    public enum LockType {
+        EXCLUSIVE, READ, WRITE
+    }
+
+    public enum LockMode {
+        REDIS, LOCAL
+    }
+
     @Getter
     @Builder(access = AccessLevel.PRIVATE)
     public static class LockWrapper {
-        private final String  lockKey;
-        private final RLock   lock;
-        private final boolean locked;
+        private final String   lockKey;
+        private final RLock    lock;
+        private final LockMode mode;
+        private final LockType lockType;      //로컬 락 해제 시 읽기/쓰기 락 구분
+        private final boolean  locked;
+        private final long     fencingToken;  //락 획득 순서대로 증가하는 토큰, 없으면 0
 
         public static LockWrapper of(final String lockKey,
                                      final RLock lock,
                                      final boolean locked) {
+            return of(lockKey, lock, locked, 0L);
+        }
+
+        public static LockWrapper of(final String lockKey,
+                                     final RLock lock,
+                                     final boolean locked,
+                                     final long fencingToken) {
             return LockWrapper.builder()
                               .lockKey(lockKey)
                               .lock(lock)
+                              .mode(LockMode.REDIS)
+                              .locked(locked)
+                              .fencingToken(fencingToken)
+                              .build();
+        }
+
+        public static LockWrapper local(final String lockKey, final boolean locked) {
+            return local(lockKey, LockType.EXCLUSIVE, locked);
+        }
+
+        public static LockWrapper local(final String lockKey, final LockType lockType, final boolean locked) {
+            return LockWrapper.builder()
+                              .lockKey(lockKey)
+                              .mode(LockMode.LOCAL)
+                              .lockType(lockType)
                               .locked(locked)
                               .build();
         }
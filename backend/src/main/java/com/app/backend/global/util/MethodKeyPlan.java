@@ -0,0 +1,127 @@
+package com.app.backend.global.util;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelNode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.ast.VariableReference;
+import org.springframework.expression.spel.standard.SpelExpression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+/**
+ * 메서드별 키 생성 계획
+ * <p>
+ * 파라미터 이름/인덱스와 파싱된 SpEL 식을 메서드마다 한 번만 만들어 재사용한다.
+ * 식은 MIXED 모드로 파싱되어 일정 횟수 이상 평가되면 바이트코드로 컴파일되며, 평가 시에는 식이 참조하는 파라미터만 변수로 등록한다.
+ */
+public final class MethodKeyPlan {
+
+    private static final String RESULT_VARIABLE = "result";
+
+    private static final SpelExpressionParser PARSER = new SpelExpressionParser(
+            new SpelParserConfiguration(SpelCompilerMode.MIXED, MethodKeyPlan.class.getClassLoader())
+    );
+
+    private static final ParameterNameDiscoverer NAME_DISCOVERER = new DefaultParameterNameDiscoverer();
+
+    private static final Map<Method, MethodKeyPlan> PLANS = new ConcurrentHashMap<>();
+
+    private final Map<String, Integer>       parameterIndexes = new HashMap<>();
+    private final Map<String, KeyExpression> expressions      = new ConcurrentHashMap<>();
+
+    private MethodKeyPlan(final String[] parameterNames) {
+        if (parameterNames != null)
+            for (int i = 0; i < parameterNames.length; i++)
+                parameterIndexes.put(parameterNames[i], i);
+    }
+
+    public static MethodKeyPlan of(final ProceedingJoinPoint joinPoint) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        return PLANS.computeIfAbsent(signature.getMethod(), method -> new MethodKeyPlan(signature.getParameterNames()));
+    }
+
+    public static MethodKeyPlan of(final Method method) {
+        return PLANS.computeIfAbsent(method, m -> new MethodKeyPlan(NAME_DISCOVERER.getParameterNames(m)));
+    }
+
+    /**
+     * 파라미터 인덱스
+     *
+     * @param parameterName - 파라미터 이름
+     * @return 인덱스, 없으면 -1
+     */
+    public int indexOf(final String parameterName) {
+        return parameterIndexes.getOrDefault(parameterName, -1);
+    }
+
+    public Object evaluate(final String expression, final Object[] args) {
+        return evaluate(expression, args, null);
+    }
+
+    /**
+     * SpEL 식 평가, 식에서 파라미터는 #파라미터명, 반환값은 #result 로 참조
+     *
+     * @param expression - SpEL 식
+     * @param args       - 메서드 인자
+     * @param result     - 메서드 반환값
+     * @return 평가 결과
+     */
+    public Object evaluate(final String expression, final Object[] args, final Object result) {
+        return expressions.computeIfAbsent(expression, this::compile).evaluate(args, result);
+    }
+
+    private KeyExpression compile(final String expression) {
+        Expression parsed = PARSER.parseExpression(expression);
+
+        List<String> variables = new ArrayList<>();
+        if (parsed instanceof SpelExpression spelExpression)
+            collectVariables(spelExpression.getAST(), variables);
+
+        List<String>  names   = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        for (String variable : variables) {
+            Integer index = parameterIndexes.get(variable);
+            if (index != null && !names.contains(variable)) {
+                names.add(variable);
+                indexes.add(index);
+            }
+        }
+
+        return new KeyExpression(parsed,
+                                 names.toArray(String[]::new),
+                                 indexes.stream().mapToInt(Integer::intValue).toArray(),
+                                 variables.contains(RESULT_VARIABLE));
+    }
+
+    private void collectVariables(final SpelNode node, final List<String> variables) {
+        if (node instanceof VariableReference)
+            variables.add(node.toStringAST().substring(1));
+        for (int i = 0; i < node.getChildCount(); i++)
+            collectVariables(node.getChild(i), variables);
+    }
+
+    private record KeyExpression(Expression expression, String[] names, int[] indexes, boolean usesResult) {
+
+        Object evaluate(final Object[] args, final Object result) {
+            StandardEvaluationContext context = new StandardEvaluationContext();
+            for (int i = 0; i < names.length; i++)
+                context.setVariable(names[i], args[indexes[i]]);
+            if (usesResult)
+                context.setVariable(RESULT_VARIABLE, result);
+            return expression.getValue(context);
+        }
+
+    }
+
+}
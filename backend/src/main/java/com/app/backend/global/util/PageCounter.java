@@ -0,0 +1,164 @@
+package com.app.backend.global.util;
+
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQuery;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 페이징 전체 개수 계산
+ * <p>
+ * 현재 스레드에 설정된 방식(@CustomPageCount)에 따라 개수 쿼리를 실행하거나 캐시/근사값을 사용한다.
+ * 조회 결과만으로 전체 개수를 알 수 있으면(첫 페이지가 다 차지 않음, 마지막 페이지 등) 어떤 방식이든 개수 쿼리를 실행하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PageCounter {
+
+    public enum CountStrategy {
+        /**
+         * 필요할 때만 COUNT 쿼리 실행
+         */
+        DERIVED,
+        /**
+         * 검색 조건별 COUNT 결과를 Redis 에 캐시, 쓰기 시 태그로 삭제
+         */
+        CACHED,
+        /**
+         * limit 개까지만 세고, 더 많으면 limit 을 전체 개수로 사용
+         */
+        APPROXIMATE
+    }
+
+    private static final String KEY_PREFIX = "count:";
+
+    /**
+     * APPROXIMATE 에서 COUNT 대신 조회할 상수 컬럼(파라미터 바인딩 없이 리터럴로 출력)
+     */
+    private static final Expression<Integer> ROW_MARKER = Expressions.numberTemplate(Integer.class, "1");
+
+    private static final ThreadLocal<CountContext> CURRENT = new ThreadLocal<>();
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisHealthMonitor            redisHealthMonitor;
+    private final CacheTagIndex                 cacheTagIndex;
+    private final MeterRegistry                 meterRegistry;
+
+    /**
+     * 현재 스레드의 계산 방식을 설정하고 작업 실행
+     */
+    public Object run(final CountContext context, final Task task) throws Throwable {
+        CountContext previous = CURRENT.get();
+        CURRENT.set(context);
+        try {
+            return task.run();
+        } finally {
+            if (previous == null)
+                CURRENT.remove();
+            else
+                CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Page 생성
+     *
+     * @param content    - 조회 결과
+     * @param pageable   - 페이징 객체
+     * @param countQuery - 같은 조건의 COUNT 쿼리(전체 개수가 필요할 때만 실행)
+     */
+    public <T> Page<T> getPage(final List<T> content, final Pageable pageable, final JPAQuery<Long> countQuery) {
+        CountContext context = CURRENT.get();
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(context, countQuery));
+    }
+
+    private long count(final CountContext context, final JPAQuery<Long> countQuery) {
+        CountStrategy strategy = context == null ? CountStrategy.DERIVED : context.strategy();
+
+        return switch (strategy) {
+            case DERIVED -> {
+                record(strategy, "query");
+                yield exactCount(countQuery);
+            }
+            case CACHED -> cachedCount(context, countQuery);
+            case APPROXIMATE -> {
+                record(strategy, "query");
+                yield Math.min(countQuery.select(ROW_MARKER).limit(context.limit() + 1).fetch().size(),
+                               context.limit());
+            }
+        };
+    }
+
+    private long cachedCount(final CountContext context, final JPAQuery<Long> countQuery) {
+        if (!redisHealthMonitor.isAvailable())
+            return exactCount(countQuery);
+
+        String cacheKey = KEY_PREFIX + context.prefix() + ":"
+                          + DigestUtils.md5DigestAsHex(context.key().getBytes(StandardCharsets.UTF_8));
+        try {
+            Object cached = redisTemplate.opsForValue().get(cacheKey);
+            if (cached != null) {
+                record(CountStrategy.CACHED, "hit");
+                return Long.parseLong(cached.toString());
+            }
+        } catch (DataAccessException e) {
+            redisHealthMonitor.recordFailure();
+            return exactCount(countQuery);
+        }
+
+        record(CountStrategy.CACHED, "miss");
+        long total = exactCount(countQuery);
+        try {
+            redisTemplate.opsForValue().set(cacheKey, total, context.ttlMillis(), TimeUnit.MILLISECONDS);
+            cacheTagIndex.tag(context.tags(), cacheKey, context.ttlMillis());
+        } catch (DataAccessException e) {
+            redisHealthMonitor.recordFailure();
+            log.warn("Page count cache write failed: {}", cacheKey, e);
+        }
+        return total;
+    }
+
+    private long exactCount(final JPAQuery<Long> countQuery) {
+        Long total = countQuery.fetchOne();
+        return total == null ? 0L : total;
+    }
+
+    private void record(final CountStrategy strategy, final String result) {
+        Counter.builder("page.count")
+               .tag("strategy", strategy.name().toLowerCase())
+               .tag("result", result)
+               .register(meterRegistry)
+               .increment();
+    }
+
+    /**
+     * @param key  - 검색 조건(캐시 키 생성용)
+     * @param tags - 캐시 태그
+     */
+    public record CountContext(CountStrategy strategy,
+                               String prefix,
+                               String key,
+                               List<String> tags,
+                               long ttlMillis,
+                               long limit) {
+    }
+
+    public interface Task {
+        Object run() throws Throwable;
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.app.backend.global.util;
+
+import com.app.backend.global.error.exception.DomainException;
+import com.app.backend.global.error.exception.GlobalErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 기반(keyset) 페이징의 위치, 마지막으로 반환한 행의 (정렬 키, ID)
+ * <p>
+ * 클라이언트에는 Base64(URL-safe) 문자열로 전달하며, 다음 페이지는 "(정렬 키, ID) < 커서" 조건으로 조회한다.
+ * OFFSET 과 전체 개수 조회가 없으므로 페이지 깊이와 관계없이 페이지당 비용이 일정하다.
+ *
+ * @param sortKey - 정렬 키(생성 시각)
+ * @param id      - 정렬 키가 같은 행을 구분하는 ID
+ */
+public record PageCursor(LocalDateTime sortKey, long id) {
+
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        return Base64.getUrlEncoder()
+                     .withoutPadding()
+                     .encodeToString((sortKey + DELIMITER + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석
+     *
+     * @param cursor - 커서 문자열, 첫 페이지는 null 또는 빈 문자열
+     * @return 커서, 첫 페이지면 null
+     * @throws DomainException 잘못된 커서인 경우
+     */
+    public static PageCursor decode(final String cursor) {
+        if (cursor == null || cursor.isBlank())
+            return null;
+
+        try {
+            String decoded   = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int    delimiter = decoded.lastIndexOf(DELIMITER);
+            if (delimiter < 0)
+                throw new DomainException(GlobalErrorCode.INVALID_INPUT_VALUE);
+
+            return new PageCursor(LocalDateTime.parse(decoded.substring(0, delimiter)),
+                                  Long.parseLong(decoded.substring(delimiter + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new DomainException(GlobalErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+}
@@ -0,0 +1,197 @@
+package com.app.backend.global.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 비활성화(disabled = true)된 행의 물리 삭제
+ * <p>
+ * 기본 키 순서로 청크 크기만큼 ID 를 읽고(keyset), 청크마다 짧은 트랜잭션에서 자식 행과 대상 행을 삭제한다.
+ * 한 번에 잠그는 행과 메모리에 올리는 행이 청크 크기로 제한되며, 청크 사이에 대기해 복제 지연과 잠금 경합을 줄인다. <br>
+ * 대상에 파일 경로 컬럼이 있으면 커밋 후 삭제한 행의 경로를 전달한다.
+ */
+@Slf4j
+@Component
+public class PurgeEngine {
+
+    private final JdbcTemplate        jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry       meterRegistry;
+
+    private final int  chunkSize;
+    private final long throttleMillis;
+
+    public PurgeEngine(final JdbcTemplate jdbcTemplate,
+                       final TransactionTemplate transactionTemplate,
+                       final MeterRegistry meterRegistry,
+                       @Value("${spring.task.scheduling.purge.chunk-size:500}") final int chunkSize,
+                       @Value("${spring.task.scheduling.purge.throttle:100}") final long throttleMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = chunkSize;
+        this.throttleMillis = throttleMillis;
+    }
+
+    /**
+     * 수정 시각이 cutoff 이전인 비활성화 행 삭제
+     *
+     * @param target    - 삭제 대상
+     * @param cutoff    - 수정 시각 기준(이하)
+     * @param partition - 작업 파티션, 파티션이 나뉜 경우 ID % count = index 인 행만 삭제
+     * @return 삭제한 행 수
+     */
+    public long purge(final PurgeTarget target, final LocalDateTime cutoff, final JobPartition partition) {
+        String selectSql = target.selectSql(partition);
+        Timestamp modifiedAt = Timestamp.valueOf(cutoff);
+
+        long lastId  = 0L;
+        long deleted = 0L;
+        while (!Thread.currentThread().isInterrupted()) {
+            List<Row> rows = partition.isPartitioned()
+                             ? jdbcTemplate.query(selectSql, (rs, rowNum) -> toRow(rs, target),
+                                                  modifiedAt, lastId, partition.count(), partition.index(), chunkSize)
+                             : jdbcTemplate.query(selectSql, (rs, rowNum) -> toRow(rs, target),
+                                                  modifiedAt, lastId, chunkSize);
+            if (rows.isEmpty())
+                break;
+
+            lastId = rows.get(rows.size() - 1).id();
+            deleted += deleteChunk(target, rows);
+
+            if (rows.size() < chunkSize)
+                break;
+            throttle();
+        }
+
+        log.info("Purge finished: {}, partition: {}/{}, deleted: {}",
+                 target.getName(), partition.index(), partition.count(), deleted);
+        return deleted;
+    }
+
+    private int deleteChunk(final PurgeTarget target, final List<Row> rows) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Integer deleted = transactionTemplate.execute(status -> {
+            // 조회 이후 다시 활성화되거나 guard 조건을 벗어난 행은 제외하고, 삭제할 행을 잠근 뒤 자식 행부터 삭제
+            List<Long> ids = jdbcTemplate.queryForList(
+                    "SELECT %1$s FROM %2$s WHERE %1$s IN (%3$s) AND disabled = TRUE%4$s FOR UPDATE"
+                            .formatted(target.getIdColumn(), target.getTable(), placeholders(rows.size()),
+                                       target.getGuard() == null ? "" : " AND " + target.getGuard()),
+                    Long.class,
+                    rows.stream().map(Row::id).toArray());
+            if (ids.isEmpty())
+                return 0;
+
+            String   placeholders = placeholders(ids.size());
+            Object[] args         = ids.toArray();
+            target.getDependents().forEach(dependent -> jdbcTemplate.update(dependent.formatted(placeholders), args));
+            int count = jdbcTemplate.update("DELETE FROM %s WHERE %s IN (%s)"
+                                                    .formatted(target.getTable(), target.getIdColumn(), placeholders),
+                                            args);
+
+            if (target.getFileColumn() != null && target.getFileHandler() != null) {
+                Set<Long> deletedIds = new HashSet<>(ids);
+                List<String> files = rows.stream()
+                                         .filter(row -> deletedIds.contains(row.id()) && row.file() != null)
+                                         .map(Row::file)
+                                         .toList();
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        target.getFileHandler().accept(files);
+                    }
+                });
+            }
+            return count;
+        });
+        sample.stop(Timer.builder("purge.chunk.duration")
+                         .tag("target", target.getName())
+                         .register(meterRegistry));
+
+        int count = deleted == null ? 0 : deleted;
+        Counter.builder("purge.deleted")
+               .tag("target", target.getName())
+               .register(meterRegistry)
+               .increment(count);
+        return count;
+    }
+
+    private void throttle() {
+        if (throttleMillis <= 0)
+            return;
+        try {
+            TimeUnit.MILLISECONDS.sleep(throttleMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String placeholders(final int size) {
+        return String.join(",", Collections.nCopies(size, "?"));
+    }
+
+    private static Row toRow(final ResultSet rs, final PurgeTarget target) throws SQLException {
+        return new Row(rs.getLong(1), target.getFileColumn() == null ? null : rs.getString(2));
+    }
+
+    private record Row(long id, String file) {
+    }
+
+    /**
+     * 삭제 대상 테이블 정의
+     * <p>
+     * dependents 는 대상 행을 참조하는 자식 행 삭제 SQL 로, 대상 ID 목록 자리에 %s 를 둔다
+     * (예: DELETE FROM tbl_post_likes WHERE post_id IN (%s)). 대상 행보다 먼저 순서대로 실행한다. <br>
+     * guard 는 삭제 대상 조회 조건에 추가되며, 참조 중인 행을 건너뛸 때 사용한다.
+     */
+    @Getter
+    @Builder
+    public static class PurgeTarget {
+
+        private final String name;
+        private final String table;
+        private final String idColumn;
+        private final String guard;
+        private final String fileColumn;
+        private final Consumer<List<String>> fileHandler;
+
+        @Singular
+        private final List<String> dependents;
+
+        String selectSql(final JobPartition partition) {
+            StringBuilder sql = new StringBuilder("SELECT ").append(idColumn);
+            if (fileColumn != null)
+                sql.append(", ").append(fileColumn);
+            sql.append(" FROM ").append(table)
+               .append(" WHERE disabled = TRUE AND modified_at <= ? AND ").append(idColumn).append(" > ?");
+            if (partition.isPartitioned())
+                sql.append(" AND MOD(").append(idColumn).append(", ?) = ?");
+            if (guard != null)
+                sql.append(" AND ").append(guard);
+            return sql.append(" ORDER BY ").append(idColumn).append(" LIMIT ?").toString();
+        }
+
+    }
+
+}
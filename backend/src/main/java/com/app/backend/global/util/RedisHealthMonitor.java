@@ -0,0 +1,192 @@
+package com.app.backend.global.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 상태 감시 및 서킷 브레이커
+ * <p>
+ * 백그라운드에서 주기적으로 PING 을 보내고, 호출부에서 보고한 실패와 함께 상태를 전이한다. <br>
+ * UP : 정상 <br>
+ * DEGRADED : 최근 실패 또는 응답 지연, Redis 호출은 계속 허용 <br>
+ * DOWN : 연속 실패가 임계값에 도달(서킷 open), Redis 호출을 건너뛰며 프로브가 복구 임계값만큼 연속으로 성공해야 UP 으로 복구
+ * (DOWN 동안의 느린 응답은 성공으로 세지 않음)
+ */
+@Slf4j
+@Component
+public class RedisHealthMonitor implements HealthIndicator {
+
+    public enum State {
+        DOWN, DEGRADED, UP
+    }
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final MeterRegistry                 meterRegistry;
+
+    private final long probeInterval;
+    private final long probeTimeout;
+    private final long slowThreshold;
+    private final int  failureThreshold;
+    private final int  recoveryThreshold;
+
+    private final AtomicInteger consecutiveFailures  = new AtomicInteger();
+    private final AtomicInteger consecutiveSuccesses = new AtomicInteger();
+
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService          prober;
+
+    private volatile State                   state = State.UP;
+    private volatile long                    lastLatency;
+    private volatile long                    lastTransitionAt;
+    private volatile CompletableFuture<Long> inFlightProbe;
+
+    public RedisHealthMonitor(final RedisTemplate<String, Object> redisTemplate,
+                              final MeterRegistry meterRegistry,
+                              @Value("${spring.data.redis.health.probe-interval:1000}") final long probeInterval,
+                              @Value("${spring.data.redis.health.probe-timeout:500}") final long probeTimeout,
+                              @Value("${spring.data.redis.health.slow-threshold:200}") final long slowThreshold,
+                              @Value("${spring.data.redis.health.failure-threshold:3}") final int failureThreshold,
+                              @Value("${spring.data.redis.health.recovery-threshold:2}") final int recoveryThreshold) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.probeInterval = probeInterval;
+        this.probeTimeout = probeTimeout;
+        this.slowThreshold = slowThreshold;
+        this.failureThreshold = failureThreshold;
+        this.recoveryThreshold = recoveryThreshold;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> daemon(runnable, "redis-health"));
+        this.prober = Executors.newSingleThreadExecutor(runnable -> daemon(runnable, "redis-health-probe"));
+        this.lastTransitionAt = System.currentTimeMillis();
+
+        meterRegistry.gauge("redis.health.state", this, monitor -> monitor.state.ordinal());
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::probe, 0L, probeInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        prober.shutdownNow();
+    }
+
+    /**
+     * Redis 호출 가능 여부(서킷이 닫혀 있는지)
+     */
+    public boolean isAvailable() {
+        return state != State.DOWN;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * 호출부에서 발생한 Redis 오류 보고
+     */
+    public void recordFailure() {
+        consecutiveSuccesses.set(0);
+        int failures = consecutiveFailures.incrementAndGet();
+        if (failures >= failureThreshold)
+            transition(State.DOWN);
+        else if (state == State.UP)
+            transition(State.DEGRADED);
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = state == State.DOWN ? Health.down() : Health.up();
+        return builder.withDetail("state", state)
+                      .withDetail("consecutiveFailures", consecutiveFailures.get())
+                      .withDetail("lastLatencyMs", lastLatency)
+                      .withDetail("lastTransitionAt", lastTransitionAt)
+                      .build();
+    }
+
+    void probe() {
+        CompletableFuture<Long> probe = inFlightProbe;
+        if (probe == null || probe.isDone()) {
+            probe = CompletableFuture.supplyAsync(this::ping, prober);
+            inFlightProbe = probe;
+        }
+
+        try {
+            long latency = probe.get(probeTimeout, TimeUnit.MILLISECONDS);
+            lastLatency = latency;
+            if (latency >= slowThreshold)
+                recordSlow();
+            else
+                recordSuccess();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.debug("Redis health probe failed", e);
+            recordFailure();
+        }
+    }
+
+    private long ping() {
+        long start = System.nanoTime();
+        redisTemplate.execute((RedisCallback<String>) RedisConnection::ping);
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    private void recordSuccess() {
+        consecutiveFailures.set(0);
+        if (state == State.UP)
+            return;
+        if (consecutiveSuccesses.incrementAndGet() >= recoveryThreshold)
+            transition(State.UP);
+    }
+
+    private void recordSlow() {
+        consecutiveFailures.set(0);
+        consecutiveSuccesses.set(0);
+        if (state == State.UP)
+            transition(State.DEGRADED);
+    }
+
+    private synchronized void transition(final State next) {
+        State previous = state;
+        if (previous == next)
+            return;
+
+        state = next;
+        lastTransitionAt = System.currentTimeMillis();
+        consecutiveSuccesses.set(0);
+        if (next == State.DOWN)
+            consecutiveFailures.set(0);
+
+        log.warn("Redis health state changed: {} -> {}", previous, next);
+        Counter.builder("redis.health.transitions")
+               .tag("from", previous.name())
+               .tag("to", next.name())
+               .register(meterRegistry)
+               .increment();
+    }
+
+    private static Thread daemon(final Runnable runnable, final String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.app.backend.global.util;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 같은 키에 대한 동시 로딩 요청을 하나로 합치는 유틸
+ * <p>
+ * 먼저 도착한 호출만 loader 를 실행하고 나머지는 그 결과를 기다린다.
+ * 선행 호출이 실패하거나 대기 시간을 넘기면 대기하던 호출은 직접 loader 를 실행한다.
+ *
+ * @param <T> - 결과 타입
+ */
+public class SingleFlight<T> {
+
+    private final Map<String, CompletableFuture<T>> calls = new ConcurrentHashMap<>();
+
+    public T execute(final String key, final long maxWaitTime, final Loader<T> loader) throws Throwable {
+        CompletableFuture<T> call     = new CompletableFuture<>();
+        CompletableFuture<T> inFlight = calls.putIfAbsent(key, call);
+
+        if (inFlight != null)
+            return await(inFlight, maxWaitTime, loader);
+
+        try {
+            T value = loader.load();
+            call.complete(value);
+            return value;
+        } catch (Throwable e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            calls.remove(key, call);
+        }
+    }
+
+    public int inFlightCount() {
+        return calls.size();
+    }
+
+    private T await(final CompletableFuture<T> inFlight, final long maxWaitTime, final Loader<T> loader)
+            throws Throwable {
+        try {
+            return inFlight.get(maxWaitTime, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        } catch (ExecutionException | TimeoutException e) {
+            return loader.load();
+        }
+    }
+
+    @FunctionalInterface
+    public interface Loader<T> {
+        T load() throws Throwable;
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.app.backend.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시간 감쇠 점수 기반 실시간 인기 순위(Sorted Set)
+ * <p>
+ * 조회 한 번의 가중치는 2^((조회 시각 - 기준 시각) / 반감기)로, 최근 조회일수록 크다(forward decay).
+ * 점수를 주기적으로 깎는 대신 새 조회의 가중치를 키우므로 조회마다 ZINCRBY 한 번(O(log n))으로 순위가 유지된다. <br>
+ * 가중치가 커지면(반감기의 8배 경과) 조회 시점에 기준 시각을 현재로 옮기고 기존 점수를 같은 비율로 줄인다.
+ */
+@Component
+public class TrendingIndex {
+
+    private static final String EPOCH_SUFFIX      = ":epoch";
+    private static final long   RESCALE_HALF_LIFE = 8;
+    private static final long   TTL_DAY           = 7;
+
+    /**
+     * KEYS : 순위 키, 기준 시각 키 <br>
+     * ARGV : 항목, 현재 시각(ms), 반감기(ms), 최대 항목 수, 키 TTL(ms), 기준 시각 이동 임계값(ms)
+     */
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[2])
+            local halfLife = tonumber(ARGV[3])
+            local epoch = tonumber(redis.call('GET', KEYS[2]))
+            if not epoch then
+                epoch = now
+                redis.call('SET', KEYS[2], ARGV[2])
+            elseif now - epoch > tonumber(ARGV[6]) then
+                redis.call('ZUNIONSTORE', KEYS[1], 1, KEYS[1], 'WEIGHTS', 2 ^ ((epoch - now) / halfLife))
+                epoch = now
+                redis.call('SET', KEYS[2], ARGV[2])
+            end
+            redis.call('ZINCRBY', KEYS[1], 2 ^ ((now - epoch) / halfLife), ARGV[1])
+            if redis.call('ZCARD', KEYS[1]) > tonumber(ARGV[4]) then
+                redis.call('ZREMRANGEBYRANK', KEYS[1], 0, 0)
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[5])
+            redis.call('PEXPIRE', KEYS[2], ARGV[5])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private final long halfLife;
+    private final long maxSize;
+
+    public TrendingIndex(final RedisTemplate<String, Object> redisTemplate,
+                         @Value("${spring.data.redis.trending.half-life:21600000}") final long halfLife,
+                         @Value("${spring.data.redis.trending.max-size:1000}") final long maxSize) {
+        this.redisTemplate = redisTemplate;
+        this.halfLife = halfLife;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 조회 기록, 항목 수가 최대치를 넘으면 점수가 가장 낮은 항목 제거
+     *
+     * @param key    - 순위 키
+     * @param member - 항목(게시글 ID 등)
+     */
+    @SuppressWarnings("unchecked")
+    public void record(final String key, final Object member) {
+        RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+
+        redisTemplate.execute(RECORD_SCRIPT,
+                              RedisSerializer.byteArray(),
+                              (RedisSerializer) RedisSerializer.byteArray(),
+                              List.of(key, key + EPOCH_SUFFIX),
+                              valueSerializer.serialize(member),
+                              toBytes(System.currentTimeMillis()),
+                              toBytes(halfLife),
+                              toBytes(maxSize),
+                              toBytes(TimeUnit.DAYS.toMillis(TTL_DAY)),
+                              toBytes(halfLife * RESCALE_HALF_LIFE));
+    }
+
+    /**
+     * 점수가 높은 순서로 상위 항목 조회
+     */
+    public List<Object> top(final String key, final int limit) {
+        Set<Object> members = redisTemplate.opsForZSet().reverseRange(key, 0, limit - 1);
+        return members == null ? List.of() : List.copyOf(members);
+    }
+
+    private static byte[] toBytes(final long value) {
+        return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+}
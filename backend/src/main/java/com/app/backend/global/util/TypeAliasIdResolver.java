@@ -0,0 +1,56 @@
+package com.app.backend.global.util;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DatabindContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.impl.ClassNameIdResolver;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 등록된 클래스는 짧은 별칭으로, 그 외 클래스는 전체 클래스명으로 타입 정보를 기록하는 Jackson TypeIdResolver
+ */
+public class TypeAliasIdResolver extends ClassNameIdResolver {
+
+    private final Map<String, String> aliasById = new HashMap<>();
+    private final Map<String, String> idByAlias = new HashMap<>();
+
+    public TypeAliasIdResolver(final TypeFactory typeFactory,
+                               final PolymorphicTypeValidator ptv,
+                               final Map<Class<?>, String> aliases) {
+        super(typeFactory.constructType(Object.class), typeFactory, ptv);
+        aliases.forEach((type, alias) -> {
+            if (alias.contains("."))
+                throw new IllegalArgumentException("Type alias cannot contain '.': " + alias);
+            if (idByAlias.put(alias, type.getName()) != null)
+                throw new IllegalArgumentException("Duplicate type alias: " + alias);
+            aliasById.put(type.getName(), alias);
+        });
+    }
+
+    @Override
+    public String idFromValue(final Object value) {
+        String id = super.idFromValue(value);
+        return aliasById.getOrDefault(id, id);
+    }
+
+    @Override
+    public String idFromValueAndType(final Object value, final Class<?> type) {
+        String id = super.idFromValueAndType(value, type);
+        return aliasById.getOrDefault(id, id);
+    }
+
+    @Override
+    public JavaType typeFromId(final DatabindContext context, final String id) throws IOException {
+        return super.typeFromId(context, idByAlias.getOrDefault(id, id));
+    }
+
+    @Override
+    public JsonTypeInfo.Id getMechanism() {
+        return JsonTypeInfo.Id.CUSTOM;
+    }
+
+}
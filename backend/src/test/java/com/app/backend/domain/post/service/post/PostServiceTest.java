@@ -10,18 +10,24 @@ import com.app.backend.domain.member.repository.MemberRepository;
 import com.app.backend.domain.member.util.MemberFactory;
 import com.app.backend.domain.post.dto.req.PostReqDto;
 import com.app.backend.domain.post.dto.resp.PostRespDto;
+import com.app.backend.domain.post.dto.resp.PostViewRespDto;
 import com.app.backend.domain.post.entity.Post;
 import com.app.backend.domain.post.entity.PostAttachment;
 import com.app.backend.domain.post.entity.PostStatus;
+import com.app.backend.domain.post.entity.ViewRollupUnit;
 import com.app.backend.domain.post.exception.PostErrorCode;
 import com.app.backend.domain.post.exception.PostException;
 import com.app.backend.domain.post.repository.post.PostRepository;
 import com.app.backend.domain.post.repository.postAttachment.PostAttachmentRepository;
+import com.app.backend.domain.post.service.postView.PostViewService;
 import com.app.backend.domain.post.service.scheduler.PostScheduler;
 import com.app.backend.global.annotation.CustomWithMockUser;
+import com.app.backend.global.dto.response.CursorPage;
 import com.app.backend.global.error.exception.DomainException;
 import com.app.backend.global.error.exception.GlobalErrorCode;
+import com.app.backend.global.util.TrendingIndex;
 import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -34,6 +40,8 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
@@ -58,6 +66,9 @@ public class PostServiceTest {
     @Autowired
     private PostScheduler postScheduler;
 
+    @Autowired
+    private PostViewService postViewService;
+
     @Autowired
     private PostRepository postRepository;
 
@@ -73,6 +84,9 @@ public class PostServiceTest {
     @Autowired
     private PostAttachmentRepository postAttachmentRepository;
 
+    @Autowired
+    private TrendingIndex trendingIndex;
+
     @Autowired
     private GroupMembershipRepository groupMembershipRepository;
 
@@ -97,8 +111,12 @@ public class PostServiceTest {
         em.createNativeQuery("ALTER TABLE tbl_groups ALTER COLUMN group_id RESTART WITH 1").executeUpdate();
         em.createNativeQuery("ALTER TABLE tbl_post_attachments ALTER COLUMN attachment_id RESTART WITH 1").executeUpdate();
         redisTemplate.delete("post:postid:1");
-        redisTemplate.delete("post:postid:1:user:1");
+        redisTemplate.delete(redisTemplate.keys("viewers:post:postid:1:*"));
+        redisTemplate.delete(redisTemplate.keys("uv:post:postid:1:*"));
         redisTemplate.delete("viewCount:post:postid:1");
+        redisTemplate.delete(redisTemplate.keys("job:*"));
+        redisTemplate.delete(redisTemplate.keys("post:trending:*"));
+        redisTemplate.delete(redisTemplate.keys("count:*"));
     }
 
     private void dataSetting() {
@@ -1003,6 +1021,46 @@ public class PostServiceTest {
         assertEquals(2, respDto.getImages().size());
     }
 
+    @Test
+    @DisplayName("Success : 게시글 상세 여러 건 불러오기 - 첨부파일 유형별 분류, 조회 회원의 좋아요 여부, 권한 없는 비공개/삭제 게시글 제외")
+    @CustomWithMockUser(id = 2L, username = "Test member2", nickname = "Test Nickname 2")
+    void getPostDetails_Success() {
+        // Given
+        MultipartFile[] files = {
+                new MockMultipartFile("file1", "test1.jpg", "image/jpeg", "file1-content".getBytes()),
+                new MockMultipartFile("file2", "test2.pdf", "application/pdf", "file2-content".getBytes()),
+                new MockMultipartFile("file3", "test3.mp4", "video/mp4", "file3-content".getBytes())
+        };
+        Post publicPost = postService.savePost(1L, new PostReqDto.SavePostDto("공개 게시글", "공개 내용", PostStatus.PUBLIC, 1L), files);
+        Post privatePost = postService.savePost(1L, new PostReqDto.SavePostDto("비공개 게시글", "비공개 내용", PostStatus.PRIVATE, 1L), null);
+        Post deletedPost = postService.savePost(1L, new PostReqDto.SavePostDto("삭제 게시글", "삭제 내용", PostStatus.PUBLIC, 1L), null);
+        postService.deletePost(1L, deletedPost.getId());
+        postService.PostLike(publicPost.getId(), 1L);
+        em.flush();
+        em.clear();
+
+        List<Long> postIds = List.of(privatePost.getId(), deletedPost.getId(), publicPost.getId());
+
+        // When
+        List<PostRespDto.GetPostDto> leaderView = postService.getPostDetails(postIds, 1L);
+        List<PostRespDto.GetPostDto> pendingView = postService.getPostDetails(postIds, 2L);
+
+        // Then
+        assertEquals(List.of(privatePost.getId(), publicPost.getId()),
+                leaderView.stream().map(PostRespDto.GetPostDto::getPostId).toList());
+        assertEquals(List.of(publicPost.getId()),
+                pendingView.stream().map(PostRespDto.GetPostDto::getPostId).toList());
+        assertEquals(List.of(false, true), leaderView.stream().map(PostRespDto.GetPostDto::getLiked).toList());
+        assertFalse(pendingView.get(0).getLiked());
+
+        PostRespDto.GetPostDto detail = pendingView.get(0);
+        assertEquals(1, detail.getImages().size());
+        assertEquals(1, detail.getDocuments().size());
+        assertEquals(1, detail.getVideos().size());
+        assertEquals(1L, detail.getMemberId());
+        assertEquals("Test Nickname 1", detail.getNickName());
+    }
+
     @Test
     @DisplayName("Fail : 게시글 불러오기 - MembershipStatus.PENDING")
     @CustomWithMockUser(id = 2L, username = "Test member2", nickname = "Test Nickname 2")
@@ -1130,12 +1188,13 @@ public class PostServiceTest {
 
         Pageable pageable = PageRequest.of(0, 10, Sort.unsorted());
 
-        Page<Post> result = postRepository.findAllBySearchStatus(1L, "", PostStatus.ALL, false, pageable);
+        Page<PostRespDto.PostListRow> result = postRepository.findAllBySearchStatus(1L, "", PostStatus.ALL, false, pageable);
 
         // Then
         assertEquals(15, result.getTotalElements()); // 전체 데이터 개수 확인
         assertEquals(10, result.getContent().size()); // 첫 페이지 10개
-        assertEquals("1 테스트 제목", result.getContent().get(0).getTitle()); // 제목 확인
+        assertEquals("1 테스트 제목", result.getContent().get(0).title()); // 제목 확인
+        assertEquals(0, em.unwrap(SessionImplementor.class).getPersistenceContext().getNumberOfManagedEntities()); // 엔티티 미적재
     }
 
     @Test
@@ -1157,12 +1216,12 @@ public class PostServiceTest {
 
         Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "title"));
 
-        Page<Post> result = postRepository.findAllBySearchStatus(1L, "", PostStatus.ALL, false, pageable);
+        Page<PostRespDto.PostListRow> result = postRepository.findAllBySearchStatus(1L, "", PostStatus.ALL, false, pageable);
 
         // Then
         assertEquals(9, result.getTotalElements()); // 전체 데이터 개수 확인
         assertEquals(9, result.getContent().size()); // 첫 페이지 10개
-        assertEquals("9 테스트 제목", result.getContent().get(0).getTitle()); // 제목 확인
+        assertEquals("9 테스트 제목", result.getContent().get(0).title()); // 제목 확인
     }
 
     @Test
@@ -1184,12 +1243,12 @@ public class PostServiceTest {
 
         Pageable pageable = PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "title"));
 
-        Page<Post> result = postRepository.findAllBySearchStatus(1L, "", PostStatus.ALL, false, pageable);
+        Page<PostRespDto.PostListRow> result = postRepository.findAllBySearchStatus(1L, "", PostStatus.ALL, false, pageable);
 
         // Then
         assertEquals(15, result.getTotalElements()); // 전체 데이터 개수 확인
         assertEquals(5, result.getContent().size()); // 2 페이지 5개
-        assertEquals("13 테스트 제목", result.getContent().get(0).getTitle()); // 제목 확인
+        assertEquals("13 테스트 제목", result.getContent().get(0).title()); // 제목 확인
     }
 
     @Test
@@ -1211,12 +1270,140 @@ public class PostServiceTest {
 
         Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "title"));
 
-        Page<Post> result = postRepository.findAllBySearchStatus(1L, "test", PostStatus.ALL, false, pageable);
+        Page<PostRespDto.PostListRow> result = postRepository.findAllBySearchStatus(1L, "test", PostStatus.ALL, false, pageable);
 
         // Then
         assertEquals(0, result.getContent().size());
     }
 
+    @Test
+    @DisplayName("Success : 게시글 목록 불러오기 [페이징] - 검색 색인, 제목 일치 우선 정렬 및 수정 반영")
+    public void getPosts_Success5() {
+        // Given
+        Post contentMatch = postService.savePost(1L, new PostReqDto.SavePostDto("일반 게시글", "스프링 공부 기록", PostStatus.PUBLIC, 1L), null);
+        Post titleMatch = postService.savePost(1L, new PostReqDto.SavePostDto("스프링 스터디 모집", "모집 내용", PostStatus.PUBLIC, 1L), null);
+        postService.savePost(1L, new PostReqDto.SavePostDto("무관한 게시글", "다른 내용", PostStatus.PUBLIC, 1L), null);
+        em.flush();
+        em.clear();
+
+        Pageable pageable = PageRequest.of(0, 10);
+
+        // When
+        Page<PostRespDto.PostListRow> result = postRepository.findAllBySearchStatus(1L, "스프링", PostStatus.ALL, false, pageable);
+
+        // Then
+        assertEquals(2, result.getTotalElements());
+        assertEquals(titleMatch.getId(), result.getContent().get(0).postId());
+        assertEquals(contentMatch.getId(), result.getContent().get(1).postId());
+
+        // When
+        postService.updatePost(1L, contentMatch.getId(), new PostReqDto.ModifyPostDto(1L, "일반 게시글", "자바 공부 기록", PostStatus.PUBLIC, 0L, null, null), null);
+        em.flush();
+        em.clear();
+
+        // Then
+        Page<PostRespDto.PostListRow> updated = postRepository.findAllBySearchStatus(1L, "스프링", PostStatus.ALL, false, pageable);
+        assertEquals(1, updated.getTotalElements());
+        assertEquals(titleMatch.getId(), updated.getContent().get(0).postId());
+    }
+
+    @Test
+    @DisplayName("Success : 게시글 목록 불러오기 [커서] - 다음 커서로 이어서 조회, 마지막 페이지는 hasNext false")
+    public void getPosts_Success6() {
+        for (int i = 15; i >= 1; i--) {
+            Post post = Post.builder()
+                    .title(i + " 테스트 제목")
+                    .content(i + " 테스트 내용")
+                    .postStatus(PostStatus.PUBLIC)
+                    .groupId(1L)
+                    .memberId(1L)
+                    .nickName("테스트 닉")
+                    .build();
+            postRepository.save(post);
+        }
+        em.flush();
+        em.clear();
+
+        // When
+        CursorPage<PostRespDto.GetPostListDto> first = postService.getPostsByCursor(1L, "", PostStatus.ALL, null, 10);
+        CursorPage<PostRespDto.GetPostListDto> second = postService.getPostsByCursor(1L, "", PostStatus.ALL, first.nextCursor(), 10);
+
+        // Then
+        assertEquals(10, first.content().size());
+        assertTrue(first.hasNext());
+        assertEquals("1 테스트 제목", first.content().get(0).getTitle());
+        assertEquals(5, second.content().size());
+        assertFalse(second.hasNext());
+        assertNull(second.nextCursor());
+        assertEquals("15 테스트 제목", second.content().get(4).getTitle());
+    }
+
+    @Test
+    @DisplayName("Success : 게시글 목록 불러오기 [페이징] - 전체 개수 캐시, 게시글 작성 커밋 후 삭제")
+    public void getPosts_Success7() {
+        for (int i = 15; i >= 1; i--) {
+            Post post = Post.builder()
+                    .title(i + " 테스트 제목")
+                    .content(i + " 테스트 내용")
+                    .postStatus(PostStatus.PUBLIC)
+                    .groupId(1L)
+                    .memberId(1L)
+                    .nickName("테스트 닉")
+                    .build();
+            postRepository.save(post);
+        }
+        em.flush();
+        em.clear();
+
+        Pageable pageable = PageRequest.of(0, 10);
+        assertEquals(15, postService.getPostsBySearch(1L, "", PostStatus.ALL, pageable).getTotalElements());
+
+        // When : 캐시를 거치지 않은 저장은 반영되지 않음
+        postRepository.save(Post.builder()
+                .title("16 테스트 제목")
+                .content("16 테스트 내용")
+                .postStatus(PostStatus.PUBLIC)
+                .groupId(1L)
+                .memberId(1L)
+                .nickName("테스트 닉")
+                .build());
+        em.flush();
+
+        // Then
+        assertEquals(15, postService.getPostsBySearch(1L, "", PostStatus.ALL, pageable).getTotalElements());
+
+        // When : 서비스 저장은 커밋 후 모임 태그로 캐시 삭제
+        postService.savePost(1L, new PostReqDto.SavePostDto("17 테스트 제목", "17 테스트 내용", PostStatus.PUBLIC, 1L), null);
+        em.flush();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Then
+        assertEquals(17, postService.getPostsBySearch(1L, "", PostStatus.ALL, pageable).getTotalElements());
+    }
+
+    @Test
+    @DisplayName("Success : 게시글 목록 불러오기 [페이징] - 2-gram 토큰만 겹치고 검색어가 없는 게시글 제외")
+    public void getPosts_Success8() {
+        // Given
+        Post matched = postService.savePost(1L, new PostReqDto.SavePostDto("테스트 후기", "내용", PostStatus.PUBLIC, 1L), null);
+        postService.savePost(1L, new PostReqDto.SavePostDto("테스 스트레칭", "내용", PostStatus.PUBLIC, 1L), null);
+        em.flush();
+        em.clear();
+
+        Pageable pageable = PageRequest.of(0, 10);
+
+        // When
+        Page<PostRespDto.PostListRow> ranked = postRepository.findAllBySearchStatus(1L, "테스트", PostStatus.ALL, false, pageable);
+        Page<PostRespDto.PostListRow> sorted = postRepository.findAllBySearchStatus(1L, "테스트", PostStatus.ALL, false,
+                                                                                    PageRequest.of(0, 10, Sort.by("createdAt")));
+
+        // Then
+        assertEquals(1, ranked.getTotalElements());
+        assertEquals(matched.getId(), ranked.getContent().get(0).postId());
+        assertEquals(1, sorted.getTotalElements());
+        assertEquals(matched.getId(), sorted.getContent().get(0).postId());
+    }
+
     @Test
     @DisplayName("Fail : 게시글 목록 불러오기 [페이징]")
     public void getPosts_Fail1() {
@@ -1279,6 +1466,7 @@ public class PostServiceTest {
 
         // when
         postScheduler.viewCountsRedisToRDB();
+        em.clear(); // 조회수는 JDBC 로 직접 반영되므로 영속성 컨텍스트 초기화
 
         //Then
         Post post = postRepository.findById(1L).orElseThrow();
@@ -1302,6 +1490,7 @@ public class PostServiceTest {
 
         // when
         postScheduler.refreshViewCount();
+        em.clear(); // 조회수는 JDBC 로 직접 반영되므로 영속성 컨텍스트 초기화
 
         // Then
         Post post = postRepository.findById(1L).orElseThrow();
@@ -1329,6 +1518,7 @@ public class PostServiceTest {
 
         // when
         postScheduler.viewCountsRedisToRDB();
+        em.clear(); // 조회수는 JDBC 로 직접 반영되므로 영속성 컨텍스트 초기화
 
         // Then : 1
         List<PostRespDto.GetPostListDto> posts = postService.getTopFivePosts(1L);
@@ -1346,6 +1536,82 @@ public class PostServiceTest {
         assertEquals(3L, cachedPosts.get(0).getTodayViewCount());
     }
 
+    @Test
+    @DisplayName("Success : hot 게시물 목록 조회 - 실시간 순위가 5개 미만이면 오늘 조회수 순으로 채움")
+    @CustomWithMockUser(username = "Test member1", nickname = "Test Nickname 1")
+    public void viewCount_Success7() {
+        // given
+        for (int i = 1; i <= 4; i++) {
+            PostReqDto.SavePostDto savePostDto = new PostReqDto.SavePostDto("새로운 게시글", "새로운 내용", PostStatus.PUBLIC, 1L);
+            postService.savePost(1L, savePostDto, null);
+        }
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        String updateKey = "post:update";
+
+        for (int i = 0; i <= 3; i++) {
+            String viewCountKey = "viewCount:post:postid:%d".formatted(i + 1);
+            redisTemplate.opsForValue().set(viewCountKey, (long) i);
+            redisTemplate.opsForSet().add(updateKey, viewCountKey);
+        }
+        postScheduler.viewCountsRedisToRDB();
+        em.clear();
+
+        trendingIndex.record("post:trending:groupid:1", 3L);
+
+        // when
+        List<PostRespDto.GetPostListDto> posts = postService.getTopFivePosts(1L);
+
+        // then : 실시간 순위 1개 + 오늘 조회수 순 나머지(중복 제외)
+        assertEquals(List.of(3L, 4L, 2L), posts.stream().map(PostRespDto.GetPostListDto::getPostId).toList());
+    }
+
+    @Test
+    @DisplayName("Success : 조회수 증가 시 실시간 인기 순위 반영")
+    @CustomWithMockUser(username = "Test member1", nickname = "Test Nickname 1")
+    public void viewCount_Success5() {
+        // given
+        for (int i = 1; i <= 2; i++) {
+            PostReqDto.SavePostDto savePostDto = new PostReqDto.SavePostDto("새로운 게시글", "새로운 내용", PostStatus.PUBLIC, 1L);
+            postService.savePost(1L, savePostDto, null);
+        }
+        redisTemplate.delete(redisTemplate.keys("viewers:post:postid:2:*"));
+
+        String trendingKey = "post:trending:groupid:1";
+
+        // when
+        postService.getPost(2L, 1L);
+        postService.getPost(2L, 1L);
+
+        // Then
+        assertEquals(List.of(2L), new ArrayList<>(redisTemplate.opsForZSet().reverseRange(trendingKey, 0, -1)));
+        assertEquals(1.0, redisTemplate.opsForZSet().score(trendingKey, 2L), 0.01);
+    }
+
+    @Test
+    @DisplayName("Success : 조회수 동기화 시 시간 단위 집계 추가")
+    public void viewCount_Success6() {
+        // given
+        PostReqDto.SavePostDto savePostDto = new PostReqDto.SavePostDto("새로운 게시글", "새로운 내용", PostStatus.PUBLIC, 1L);
+        postService.savePost(1L, savePostDto, null);
+
+        String viewCountKey = "viewCount:post:postid:1";
+        redisTemplate.opsForValue().set(viewCountKey, 10L);
+        redisTemplate.opsForSet().add("post:update", viewCountKey);
+
+        // when
+        postScheduler.viewCountsRedisToRDB();
+
+        // Then
+        List<PostViewRespDto.ViewBucketDto> views = postViewService.getPostViews(1L, ViewRollupUnit.DAY, 7);
+        assertEquals(1, views.size());
+        assertEquals(10L, views.get(0).getViewCount());
+
+        List<PostViewRespDto.GroupActivityDto> activity = postViewService.getGroupActivity(1L, 7);
+        assertEquals(1L, activity.get(activity.size() - 1).getPostCount());
+        assertEquals(1L, postViewService.getTrendingPosts(1L, 7, 5).get(0).getPostId());
+    }
+
     @AfterAll
     public static void tearDown() {
         deleteTestUploadsFile();
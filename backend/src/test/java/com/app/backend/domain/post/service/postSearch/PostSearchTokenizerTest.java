@@ -0,0 +1,47 @@
+package com.app.backend.domain.post.service.postSearch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PostSearchTokenizerTest {
+
+    @Test
+    @DisplayName("제목과 내용을 2-gram 으로 나누고 제목 토큰에 가중치 부여")
+    void tokenize() {
+        // given
+        String title   = "스프링 Boot";
+        String content = "스프링, 한 글자 x";
+
+        // when
+        Map<String, Integer> tokens = PostSearchTokenizer.tokenize(title, content);
+
+        // then
+        assertThat(tokens).containsOnly(Map.entry("스프", 4),
+                                        Map.entry("프링", 4),
+                                        Map.entry("bo", 3),
+                                        Map.entry("oo", 3),
+                                        Map.entry("ot", 3),
+                                        Map.entry("글자", 1));
+    }
+
+    @Test
+    @DisplayName("검색어는 정규화 후 중복 없이 2-gram 으로 나누고, 한 글자 단어만 있으면 빈 결과")
+    void queryTokens() {
+        // when & then
+        assertThat(PostSearchTokenizer.queryTokens("ＳＰＲＩＮＧ 스프링")).containsExactly("sp", "pr", "ri", "in", "ng", "스프", "프링");
+        assertThat(PostSearchTokenizer.queryTokens("가 a")).isEmpty();
+        assertThat(PostSearchTokenizer.queryTokens("   ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색어 단어는 정규화 후 구분자로 나누고 빈 단어는 제외")
+    void queryWords() {
+        // when & then
+        assertThat(PostSearchTokenizer.queryWords("ＳＰＲＩＮＧ, 스프링 가")).containsExactly("spring", "스프링", "가");
+        assertThat(PostSearchTokenizer.queryWords(" , ")).isEmpty();
+    }
+
+}
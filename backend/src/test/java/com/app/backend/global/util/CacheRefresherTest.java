@@ -0,0 +1,47 @@
+package com.app.backend.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class CacheRefresherTest {
+
+    private final CacheRefresher cacheRefresher =
+            new CacheRefresher(new SimpleMeterRegistry(), mock(PlatformTransactionManager.class));
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        cacheRefresher.shutdown();
+    }
+
+    @Test
+    @DisplayName("갱신 스레드에서 요청한 스레드의 인증 정보 사용, 요청 스레드의 인증이 지워져도 유지")
+    void refresh_securityContext() throws Exception {
+        //Given
+        Authentication authentication = new TestingAuthenticationToken("member", null);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        CompletableFuture<Authentication> seen = new CompletableFuture<>();
+
+        //When
+        cacheRefresher.refresh("post", "post:groupid:1", () -> {
+            seen.complete(SecurityContextHolder.getContext().getAuthentication());
+            return "value";
+        });
+        SecurityContextHolder.clearContext();
+
+        //Then
+        assertThat(seen.get(1, TimeUnit.SECONDS)).isSameAs(authentication);
+    }
+
+}
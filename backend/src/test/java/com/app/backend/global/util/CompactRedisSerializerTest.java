@@ -0,0 +1,106 @@
+package com.app.backend.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+class CompactRedisSerializerTest {
+
+    private static final int COMPRESS_THRESHOLD = 256;
+
+    private final PolymorphicTypeValidator ptv = BasicPolymorphicTypeValidator.builder()
+                                                                             .allowIfBaseType(Object.class)
+                                                                             .build();
+
+    private final GenericJackson2JsonRedisSerializer jsonSerializer    = new GenericJackson2JsonRedisSerializer(jsonMapper());
+    private final CompactRedisSerializer             compactSerializer = new CompactRedisSerializer(smileMapper(),
+                                                                                                    jsonSerializer,
+                                                                                                    COMPRESS_THRESHOLD);
+
+    @Test
+    @DisplayName("작은 값은 압축 없이 Smile 로 기록하고 그대로 복원")
+    void serialize_smile() {
+        //Given
+        CacheEntry entry = new CacheEntry("value", 1000L, 10L);
+
+        //When
+        byte[] bytes    = compactSerializer.serialize(entry);
+        Object restored = compactSerializer.deserialize(bytes);
+
+        //Then
+        assertThat(bytes[0]).isEqualTo((byte) 0x01);
+        assertThat(bytes.length).isLessThan(jsonSerializer.serialize(entry).length);
+        assertThat(restored).isEqualTo(entry);
+    }
+
+    @Test
+    @DisplayName("임계값 이상의 값은 압축하여 기록하고 그대로 복원")
+    void serialize_deflate() {
+        //Given
+        CacheEntry entry = new CacheEntry("content ".repeat(200), 1000L, 10L);
+
+        //When
+        byte[] bytes    = compactSerializer.serialize(entry);
+        Object restored = compactSerializer.deserialize(bytes);
+
+        //Then
+        assertThat(bytes[0]).isEqualTo((byte) 0x02);
+        assertThat(bytes.length).isLessThan(COMPRESS_THRESHOLD);
+        assertThat(restored).isEqualTo(entry);
+    }
+
+    @Test
+    @DisplayName("헤더가 없는 기존 JSON 값도 읽을 수 있음")
+    void deserialize_legacyJson() {
+        //Given
+        CacheEntry entry  = new CacheEntry("value", 1000L, 10L);
+        byte[]     legacy = jsonSerializer.serialize(entry);
+
+        //When
+        Object restored = compactSerializer.deserialize(legacy);
+
+        //Then
+        assertThat(restored).isEqualTo(entry);
+    }
+
+    @Test
+    @DisplayName("문자열과 숫자는 기존 JSON 과 같은 바이트로 기록")
+    void serialize_scalar() {
+        //When, Then
+        assertThat(compactSerializer.serialize("post:postid:1")).isEqualTo(jsonSerializer.serialize("post:postid:1"));
+        assertThat(compactSerializer.serialize(1L)).isEqualTo(jsonSerializer.serialize(1L));
+        assertThat(compactSerializer.deserialize(compactSerializer.serialize("post:postid:1")))
+                .isEqualTo("post:postid:1");
+    }
+
+    private ObjectMapper jsonMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new ParameterNamesModule(JsonCreator.Mode.PROPERTIES));
+        mapper.activateDefaultTyping(ptv, ObjectMapper.DefaultTyping.EVERYTHING, JsonTypeInfo.As.PROPERTY);
+        return mapper;
+    }
+
+    private ObjectMapper smileMapper() {
+        ObjectMapper mapper = new ObjectMapper(new SmileFactory());
+        mapper.registerModule(new ParameterNamesModule(JsonCreator.Mode.PROPERTIES));
+        mapper.setDefaultTyping(
+                new ObjectMapper.DefaultTypeResolverBuilder(ObjectMapper.DefaultTyping.EVERYTHING, ptv)
+                        .init(JsonTypeInfo.Id.CUSTOM,
+                              new TypeAliasIdResolver(mapper.getTypeFactory(), ptv, Map.of(CacheEntry.class, "ce")))
+                        .inclusion(JsonTypeInfo.As.PROPERTY)
+                        .typeProperty("@t")
+        );
+        return mapper;
+    }
+
+}
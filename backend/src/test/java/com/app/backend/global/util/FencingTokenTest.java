@@ -0,0 +1,59 @@
+package com.app.backend.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.app.backend.global.error.exception.DomainException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FencingTokenTest {
+
+    private final AtomicLong storedToken = new AtomicLong();
+
+    @AfterEach
+    void tearDown() {
+        FencingToken.restore(null);
+    }
+
+    @Test
+    @DisplayName("저장된 토큰보다 오래된 토큰의 쓰기는 거부")
+    void verify_stale() {
+        //Given
+        FencingToken.bind(2L);
+        FencingToken.verify(this::fencedUpdate);
+
+        //When
+        FencingToken.bind(1L);
+
+        //Then
+        assertThatThrownBy(() -> FencingToken.verify(this::fencedUpdate)).isInstanceOf(DomainException.class);
+        assertThat(storedToken.get()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("토큰이 없으면 검사하지 않고, 중첩 호출 후 이전 토큰 복원")
+    void verify_withoutToken() {
+        //Given
+        storedToken.set(5L);
+
+        //When, Then
+        FencingToken.verify(this::fencedUpdate);
+        assertThat(FencingToken.current()).isEmpty();
+
+        Long previous = FencingToken.bind(7L);
+        Long nested   = FencingToken.bind(8L);
+        FencingToken.restore(nested);
+        assertThat(FencingToken.current()).hasValue(7L);
+        FencingToken.restore(previous);
+        assertThat(FencingToken.current()).isEmpty();
+    }
+
+    private int fencedUpdate(final long token) {
+        long stored = storedToken.get();
+        return stored <= token && storedToken.compareAndSet(stored, token) ? 1 : 0;
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.app.backend.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.annotation.Scheduled;
+
+class JobScheduleTest {
+
+    @Test
+    @DisplayName("cron 작업은 다음 실행 시각과 실행 간격을 cron 표현식으로 계산")
+    void of_cron() throws Exception {
+        //Given
+        Scheduled scheduled = scheduled("daily");
+        long      lastRun   = epochMillis(LocalDateTime.of(2024, 1, 1, 0, 0, 3));
+
+        //When
+        JobSchedule schedule = JobSchedule.of(scheduled, UnaryOperator.identity());
+
+        //Then
+        assertThat(schedule.periodMillis()).isEqualTo(TimeUnit.DAYS.toMillis(1));
+        assertThat(schedule.nextAfter(lastRun)).isEqualTo(epochMillis(LocalDateTime.of(2024, 1, 2, 0, 0)));
+        assertThat(schedule.tolerance()).isEqualTo(60_000L);
+    }
+
+    @Test
+    @DisplayName("고정 주기 작업은 마지막 실행 시각에 주기를 더해 계산")
+    void of_fixedRate() throws Exception {
+        //Given
+        Scheduled scheduled = scheduled("everyTenMinutes");
+
+        //When
+        JobSchedule schedule = JobSchedule.of(scheduled, UnaryOperator.identity());
+
+        //Then
+        assertThat(schedule.cron()).isNull();
+        assertThat(schedule.nextAfter(1_000L)).isEqualTo(601_000L);
+        assertThat(schedule.tolerance()).isEqualTo(60_000L);
+        assertThat(JobSchedule.of(null, UnaryOperator.identity())).isEqualTo(JobSchedule.UNKNOWN);
+    }
+
+    private static Scheduled scheduled(final String methodName) throws NoSuchMethodException {
+        return Jobs.class.getDeclaredMethod(methodName).getAnnotation(Scheduled.class);
+    }
+
+    private static long epochMillis(final LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    static class Jobs {
+
+        @Scheduled(cron = "0 0 0 * * ?")
+        void daily() {
+        }
+
+        @Scheduled(fixedRate = 600_000)
+        void everyTenMinutes() {
+        }
+
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.app.backend.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LocalCacheManagerTest {
+
+    @Test
+    @DisplayName("캐시 키는 영역 이름 뒤에 구분자(:)가 오는 경우에만 해당 영역에 속함")
+    void belongsTo() {
+        //When, Then
+        assertThat(LocalCacheManager.belongsTo("post:postid:1", "post:postid")).isTrue();
+        assertThat(LocalCacheManager.belongsTo("post", "post")).isTrue();
+        assertThat(LocalCacheManager.belongsTo("postView:postid:1", "post")).isFalse();
+        assertThat(LocalCacheManager.belongsTo("post:postidx:1", "post:postid")).isFalse();
+    }
+
+}
@@ -0,0 +1,127 @@
+package com.app.backend.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.app.backend.global.util.LockUtil.LockType;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LocalLockTableTest {
+
+    @Test
+    @DisplayName("다른 스레드가 보유한 키는 대기 시간 내에 획득 불가")
+    void tryLock_exclusive() throws Exception {
+        //Given
+        LocalLockTable  lockTable = new LocalLockTable();
+        ExecutorService executor  = Executors.newSingleThreadExecutor();
+        String          lockKey   = "modifyGroup:group:1";
+
+        //When
+        boolean         locked = lockTable.tryLock(lockKey, 0);
+        Future<Boolean> other  = executor.submit(() -> lockTable.tryLock(lockKey, 50));
+
+        //Then
+        assertThat(locked).isTrue();
+        assertThat(other.get()).isFalse();
+        assertThat(lockTable.heldCount()).isEqualTo(1);
+
+        lockTable.unlock(lockKey);
+        assertThat(executor.submit(() -> {
+            boolean acquired = lockTable.tryLock(lockKey, 50);
+            lockTable.unlock(lockKey);
+            return acquired;
+        }).get()).isTrue();
+        assertThat(lockTable.heldCount()).isZero();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 스레드는 재진입 가능, 보유하지 않은 락 해제는 무시")
+    void tryLock_reentrant() {
+        //Given
+        LocalLockTable lockTable = new LocalLockTable(1);
+
+        //When
+        boolean first  = lockTable.tryLock("a", 0);
+        boolean second = lockTable.tryLock("b", 0);
+
+        //Then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+
+        lockTable.unlock("a");
+        lockTable.unlock("b");
+        lockTable.unlock("b");
+        assertThat(lockTable.heldCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("READ 끼리는 동시에 획득하고, READ 보유 중에는 WRITE 획득 불가")
+    void tryLock_read() throws Exception {
+        //Given
+        LocalLockTable  lockTable = new LocalLockTable();
+        ExecutorService executor  = Executors.newSingleThreadExecutor();
+        String          lockKey   = "lock:group:1";
+
+        //When
+        boolean         read      = lockTable.tryLock(lockKey, 0, LockType.READ);
+        Future<Boolean> otherRead = executor.submit(() -> {
+            boolean acquired = lockTable.tryLock(lockKey, 50, LockType.READ);
+            lockTable.unlock(lockKey, LockType.READ);
+            return acquired;
+        });
+        Future<Boolean> write = executor.submit(() -> lockTable.tryLock(lockKey, 50, LockType.WRITE));
+
+        //Then
+        assertThat(read).isTrue();
+        assertThat(otherRead.get()).isTrue();
+        assertThat(write.get()).isFalse();
+
+        lockTable.unlock(lockKey, LockType.READ);
+        assertThat(lockTable.heldCount()).isZero();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 stripe 의 READ 를 보유한 스레드의 WRITE 요청은 대기 없이 실패")
+    void tryLock_writeWhileReading() {
+        //Given
+        LocalLockTable lockTable = new LocalLockTable(1);
+        lockTable.tryLock("lock:group:1", 0, LockType.READ);
+
+        //When
+        long    start  = System.currentTimeMillis();
+        boolean locked = lockTable.tryLock("lock:group:2", 1000, LockType.WRITE);
+
+        //Then
+        assertThat(locked).isFalse();
+        assertThat(System.currentTimeMillis() - start).isLessThan(500L);
+
+        lockTable.unlock("lock:group:1", LockType.READ);
+        assertThat(lockTable.tryLock("lock:group:2", 0, LockType.WRITE)).isTrue();
+        lockTable.unlock("lock:group:2", LockType.WRITE);
+    }
+
+    @Test
+    @DisplayName("여러 키의 획득 순서는 입력 순서와 무관하고, 같은 stripe 의 키는 한 번만 잠금")
+    void lockOrder() {
+        //Given
+        LocalLockTable lockTable = new LocalLockTable();
+        LocalLockTable single    = new LocalLockTable(1);
+        List<String>   lockKeys  = List.of("group:1-member:1", "group:1-member:2", "group:2-member:1");
+
+        //When
+        List<String> forward  = lockTable.lockOrder(lockKeys);
+        List<String> backward = lockTable.lockOrder(List.of(lockKeys.get(2), lockKeys.get(1), lockKeys.get(0)));
+
+        //Then
+        assertThat(forward).containsExactly("group:1-member:2", "group:1-member:1", "group:2-member:1"); // stripe 18, 19, 195
+        assertThat(backward).containsExactlyElementsOf(forward);
+        assertThat(single.lockOrder(List.of("b", "a"))).containsExactly("b");
+    }
+
+}
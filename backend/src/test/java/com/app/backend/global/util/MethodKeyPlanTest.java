@@ -0,0 +1,62 @@
+package com.app.backend.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MethodKeyPlanTest {
+
+    @Test
+    @DisplayName("같은 메서드는 같은 계획을 재사용")
+    void of_cached() throws Exception {
+        //Given
+        Method method = sampleMethod();
+
+        //When
+        MethodKeyPlan first  = MethodKeyPlan.of(method);
+        MethodKeyPlan second = MethodKeyPlan.of(method);
+
+        //Then
+        assertThat(first).isSameAs(second);
+        assertThat(first.indexOf("groupId")).isZero();
+        assertThat(first.indexOf("memberId")).isEqualTo(1);
+        assertThat(first.indexOf("unknown")).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("식이 참조하는 파라미터로 키 생성")
+    void evaluate_parameters() throws Exception {
+        //Given
+        MethodKeyPlan plan       = MethodKeyPlan.of(sampleMethod());
+        String        expression = "'group:' + #groupId + '-member:' + #memberId";
+
+        //When, Then
+        for (long i = 1; i <= 200; i++)
+            assertThat(plan.evaluate(expression, new Object[]{i, i + 1, "ignored"}))
+                    .isEqualTo("group:" + i + "-member:" + (i + 1));
+    }
+
+    @Test
+    @DisplayName("#result 로 반환값 참조")
+    void evaluate_result() throws Exception {
+        //Given
+        MethodKeyPlan plan = MethodKeyPlan.of(sampleMethod());
+
+        //When
+        Object value = plan.evaluate("'group:' + #result", new Object[]{1L, 2L, "name"}, 3L);
+
+        //Then
+        assertThat(value).isEqualTo("group:3");
+    }
+
+    private Method sampleMethod() throws NoSuchMethodException {
+        return MethodKeyPlanTest.class.getDeclaredMethod("sample", Long.class, Long.class, String.class);
+    }
+
+    @SuppressWarnings("unused")
+    private void sample(final Long groupId, final Long memberId, final String name) {
+    }
+
+}
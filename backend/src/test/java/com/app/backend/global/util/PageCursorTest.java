@@ -0,0 +1,40 @@
+package com.app.backend.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.app.backend.global.error.exception.DomainException;
+import com.app.backend.global.error.exception.GlobalErrorCode;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PageCursorTest {
+
+    @Test
+    @DisplayName("커서를 문자열로 변환한 뒤 다시 해석하면 같은 정렬 키와 ID")
+    void encode_decode() throws Exception {
+        //Given
+        PageCursor cursor = new PageCursor(LocalDateTime.of(2024, 1, 2, 3, 4, 5, 123_456_000), 42L);
+
+        //When
+        String encoded = cursor.encode();
+
+        //Then
+        assertThat(encoded).doesNotContain("=", "+", "/");
+        assertThat(PageCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지(null), 잘못된 커서는 INVALID_INPUT_VALUE 예외")
+    void decode_invalid() throws Exception {
+        assertThat(PageCursor.decode(null)).isNull();
+        assertThat(PageCursor.decode("")).isNull();
+        assertThatThrownBy(() -> PageCursor.decode("not a cursor"))
+                .isInstanceOf(DomainException.class)
+                .hasFieldOrPropertyWithValue("domainErrorCode", GlobalErrorCode.INVALID_INPUT_VALUE);
+        assertThatThrownBy(() -> PageCursor.decode(new PageCursor(LocalDateTime.now(), 1L).encode().substring(4)))
+                .isInstanceOf(DomainException.class);
+    }
+
+}
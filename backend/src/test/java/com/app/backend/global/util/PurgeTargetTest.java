@@ -0,0 +1,52 @@
+package com.app.backend.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.app.backend.global.util.PurgeEngine.PurgeTarget;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PurgeTargetTest {
+
+    @Test
+    @DisplayName("삭제 대상은 마지막 ID 이후부터 ID 순서로 청크 크기만큼 조회")
+    void selectSql_keyset() throws Exception {
+        //Given
+        PurgeTarget target = PurgeTarget.builder()
+                                        .name("post")
+                                        .table("tbl_posts")
+                                        .idColumn("post_id")
+                                        .build();
+
+        //When
+        String sql = target.selectSql(JobPartition.SINGLE);
+
+        //Then
+        assertThat(sql).isEqualTo("SELECT post_id FROM tbl_posts WHERE disabled = TRUE AND modified_at <= ? "
+                                  + "AND post_id > ? ORDER BY post_id LIMIT ?");
+    }
+
+    @Test
+    @DisplayName("파티션, guard, 파일 경로 컬럼이 있으면 조회 조건과 컬럼에 추가")
+    void selectSql_partitionAndGuard() throws Exception {
+        //Given
+        PurgeTarget target = PurgeTarget.builder()
+                                        .name("post-attachment")
+                                        .table("tbl_post_attachments")
+                                        .idColumn("attachment_id")
+                                        .fileColumn("store_file_path")
+                                        .guard("post_id IS NOT NULL")
+                                        .build();
+
+        //When
+        String sql = target.selectSql(new JobPartition(1, 4));
+
+        //Then
+        assertThat(sql).isEqualTo("SELECT attachment_id, store_file_path FROM tbl_post_attachments "
+                                  + "WHERE disabled = TRUE AND modified_at <= ? AND attachment_id > ? "
+                                  + "AND MOD(attachment_id, ?) = ? AND post_id IS NOT NULL "
+                                  + "ORDER BY attachment_id LIMIT ?");
+        assertThat(target.getDependents()).isEmpty();
+    }
+
+}
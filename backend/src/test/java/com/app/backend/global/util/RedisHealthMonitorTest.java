@@ -0,0 +1,53 @@
+package com.app.backend.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.app.backend.global.util.RedisHealthMonitor.State;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+class RedisHealthMonitorTest {
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+
+    private final RedisHealthMonitor monitor =
+            new RedisHealthMonitor(redisTemplate, new SimpleMeterRegistry(), 1000L, 500L, 200L, 1, 3);
+
+    @AfterEach
+    void tearDown() {
+        monitor.shutdown();
+    }
+
+    @Test
+    @DisplayName("DOWN 상태는 프로브가 복구 임계값만큼 연속으로 성공해야 UP 으로 복구")
+    void probe_recovery() {
+        //Given
+        when(redisTemplate.execute(any(RedisCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenReturn("PONG");
+        monitor.probe();
+        assertThat(monitor.getState()).isEqualTo(State.DOWN);
+
+        //When
+        monitor.probe();
+        monitor.probe();
+
+        //Then
+        assertThat(monitor.getState()).isEqualTo(State.DOWN);
+        assertThat(monitor.isAvailable()).isFalse();
+
+        monitor.probe();
+        assertThat(monitor.getState()).isEqualTo(State.UP);
+        assertThat(monitor.isAvailable()).isTrue();
+    }
+
+}
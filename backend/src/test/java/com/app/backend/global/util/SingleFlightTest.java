@@ -0,0 +1,79 @@
+package com.app.backend.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    @Test
+    @DisplayName("동시 요청은 한 번만 로딩하고 결과를 공유")
+    void execute_coalesce() throws Exception {
+        //Given
+        SingleFlight<String> singleFlight = new SingleFlight<>();
+        AtomicInteger        loadCount    = new AtomicInteger();
+        CountDownLatch       loading      = new CountDownLatch(1);
+        CountDownLatch       release      = new CountDownLatch(1);
+        int                  threadCount  = 10;
+        ExecutorService      executor     = Executors.newFixedThreadPool(threadCount);
+
+        //When
+        Future<String> leader = executor.submit(() -> execute(singleFlight, () -> {
+            loadCount.incrementAndGet();
+            loading.countDown();
+            release.await();
+            return "value";
+        }));
+        loading.await();
+
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 1; i < threadCount; i++)
+            followers.add(executor.submit(() -> execute(singleFlight, () -> {
+                loadCount.incrementAndGet();
+                return "other";
+            })));
+
+        Thread.sleep(100);
+        release.countDown();
+
+        //Then
+        assertThat(leader.get()).isEqualTo("value");
+        for (Future<String> follower : followers)
+            assertThat(follower.get()).isEqualTo("value");
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("로딩 실패 시 예외를 그대로 전달하고 키를 정리")
+    void execute_failure() {
+        //Given
+        SingleFlight<String> singleFlight = new SingleFlight<>();
+
+        //When, Then
+        assertThatThrownBy(() -> singleFlight.execute("key", 1000L, () -> {
+            throw new IllegalStateException("load failed");
+        })).isInstanceOf(IllegalStateException.class)
+           .hasMessage("load failed");
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    private String execute(final SingleFlight<String> singleFlight, final SingleFlight.Loader<String> loader) {
+        try {
+            return singleFlight.execute("key", 5000L, loader);
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+}